@@ -4,14 +4,30 @@ import me.f0reach.timeattack.command.TimeAttackCommand;
 import me.f0reach.timeattack.config.ConfigManager;
 import me.f0reach.timeattack.listener.AdvancementListener;
 import me.f0reach.timeattack.listener.ChatListener;
+import me.f0reach.timeattack.listener.LazyWorldListener;
 import me.f0reach.timeattack.listener.PlayerJoinListener;
 import me.f0reach.timeattack.listener.PlayerQuitListener;
+import me.f0reach.timeattack.listener.SafeSpawnListener;
+import me.f0reach.timeattack.listener.SplitListener;
+import me.f0reach.timeattack.listener.StartFreezeListener;
+import me.f0reach.timeattack.manager.ChunkPregenerator;
+import me.f0reach.timeattack.manager.DistanceController;
 import me.f0reach.timeattack.manager.GameManager;
+import me.f0reach.timeattack.manager.ResourceSampler;
+import me.f0reach.timeattack.manager.SafeSpawnCache;
 import me.f0reach.timeattack.manager.ScoreboardTeamManager;
+import me.f0reach.timeattack.manager.SplitManager;
+import me.f0reach.timeattack.manager.StartTeleporter;
 import me.f0reach.timeattack.manager.TeamManager;
+import me.f0reach.timeattack.manager.TemplateCache;
 import me.f0reach.timeattack.manager.TimeManager;
+import me.f0reach.timeattack.manager.WorldCreationQueue;
+import me.f0reach.timeattack.manager.WorldHibernator;
 import me.f0reach.timeattack.manager.WorldSetManager;
+import me.f0reach.timeattack.manager.WorldSetPool;
+import me.f0reach.timeattack.manager.WorldTrash;
 import me.f0reach.timeattack.util.MessageUtil;
+import me.f0reach.timeattack.util.TimeUtil;
 import org.bukkit.command.PluginCommand;
 import org.bukkit.plugin.java.JavaPlugin;
 
@@ -25,6 +41,17 @@ public final class PluginMain extends JavaPlugin {
     private GameManager gameManager;
     private TimeManager timeManager;
     private ScoreboardTeamManager scoreboardTeamManager;
+    private SplitManager splitManager;
+    private WorldCreationQueue worldCreationQueue;
+    private WorldSetPool worldSetPool;
+    private ChunkPregenerator chunkPregenerator;
+    private StartTeleporter startTeleporter;
+    private SafeSpawnCache safeSpawnCache;
+    private WorldTrash worldTrash;
+    private TemplateCache templateCache;
+    private WorldHibernator worldHibernator;
+    private DistanceController distanceController;
+    private ResourceSampler resourceSampler;
 
     @Override
     public void onEnable() {
@@ -36,6 +63,7 @@ public final class PluginMain extends JavaPlugin {
 
         // メッセージプレフィックスを設定
         MessageUtil.setPrefix(configManager.getMessagePrefix());
+        TimeUtil.setFormat(configManager.getTimeFormat());
 
         // Multiverse-Coreの存在確認
         if (getServer().getPluginManager().getPlugin("Multiverse-Core") == null) {
@@ -44,6 +72,10 @@ public final class PluginMain extends JavaPlugin {
             return;
         }
 
+        // 前回削除しきれなかったワールドフォルダの削除を再開
+        worldTrash = new WorldTrash(this);
+        worldTrash.sweep();
+
         // マネージャーを初期化
         worldSetManager = new WorldSetManager(this);
         if (!worldSetManager.initialize()) {
@@ -52,15 +84,33 @@ public final class PluginMain extends JavaPlugin {
             return;
         }
 
+        templateCache = new TemplateCache(this);
+        worldCreationQueue = new WorldCreationQueue(this);
+        worldSetPool = new WorldSetPool(this);
+        chunkPregenerator = new ChunkPregenerator(this);
+        startTeleporter = new StartTeleporter(this);
+        safeSpawnCache = new SafeSpawnCache(this);
+        worldHibernator = new WorldHibernator(this);
+        distanceController = new DistanceController(this);
+        resourceSampler = new ResourceSampler(this);
         teamManager = new TeamManager(this);
         timeManager = new TimeManager(this);
         gameManager = new GameManager(this);
         scoreboardTeamManager = new ScoreboardTeamManager(this);
+        splitManager = new SplitManager(this);
+        splitManager.reload();
 
         // 保存されたデータを読み込む
         teamManager.loadTeams();
         gameManager.loadState();
 
+        // 割り当て済みのワールドセットを登録した後にプールとテンプレートキャッシュを確認する
+        worldSetPool.start();
+        templateCache.start();
+        worldHibernator.start();
+        distanceController.start();
+        resourceSampler.start();
+
         // スコアボードチームを初期化（チーム読み込み後）
         scoreboardTeamManager.initialize();
 
@@ -78,6 +128,35 @@ public final class PluginMain extends JavaPlugin {
 
     @Override
     public void onDisable() {
+        // 作成途中のワールドセットを破棄
+        if (worldSetPool != null) {
+            worldSetPool.stop();
+        }
+        if (chunkPregenerator != null) {
+            chunkPregenerator.stop();
+        }
+        if (worldHibernator != null) {
+            worldHibernator.stop();
+        }
+        if (distanceController != null) {
+            distanceController.stop();
+        }
+        if (resourceSampler != null) {
+            resourceSampler.stop();
+        }
+        // 実行中のテンプレートのコピーを待ってから作成途中のワールドを削除する
+        if (worldSetManager != null) {
+            worldSetManager.shutdown();
+        }
+        if (worldCreationQueue != null) {
+            worldCreationQueue.shutdown();
+        }
+
+        // 開始時のテレポートを中止
+        if (startTeleporter != null) {
+            startTeleporter.cancel();
+        }
+
         // タイマーを停止
         if (timeManager != null) {
             timeManager.stopUpdateTask();
@@ -88,6 +167,16 @@ public final class PluginMain extends JavaPlugin {
             scoreboardTeamManager.cleanup();
         }
 
+        // 未保存のゲームデータを書き出す
+        if (configManager != null) {
+            configManager.shutdown();
+        }
+
+        // ワールドフォルダの削除を停止（残りは次回起動時に削除）
+        if (worldTrash != null) {
+            worldTrash.shutdown();
+        }
+
         getLogger().info("TimeAttackPlugin has been disabled!");
     }
 
@@ -105,6 +194,10 @@ public final class PluginMain extends JavaPlugin {
         getServer().getPluginManager().registerEvents(new PlayerQuitListener(this), this);
         getServer().getPluginManager().registerEvents(new ChatListener(this), this);
         getServer().getPluginManager().registerEvents(new AdvancementListener(this), this);
+        getServer().getPluginManager().registerEvents(new SplitListener(this), this);
+        getServer().getPluginManager().registerEvents(new StartFreezeListener(this), this);
+        getServer().getPluginManager().registerEvents(new SafeSpawnListener(this), this);
+        getServer().getPluginManager().registerEvents(new LazyWorldListener(this), this);
     }
 
     // ========== Singleton & Getters ==========
@@ -136,4 +229,48 @@ public final class PluginMain extends JavaPlugin {
     public ScoreboardTeamManager getScoreboardTeamManager() {
         return scoreboardTeamManager;
     }
+
+    public SplitManager getSplitManager() {
+        return splitManager;
+    }
+
+    public WorldCreationQueue getWorldCreationQueue() {
+        return worldCreationQueue;
+    }
+
+    public WorldSetPool getWorldSetPool() {
+        return worldSetPool;
+    }
+
+    public ChunkPregenerator getChunkPregenerator() {
+        return chunkPregenerator;
+    }
+
+    public StartTeleporter getStartTeleporter() {
+        return startTeleporter;
+    }
+
+    public SafeSpawnCache getSafeSpawnCache() {
+        return safeSpawnCache;
+    }
+
+    public WorldTrash getWorldTrash() {
+        return worldTrash;
+    }
+
+    public TemplateCache getTemplateCache() {
+        return templateCache;
+    }
+
+    public WorldHibernator getWorldHibernator() {
+        return worldHibernator;
+    }
+
+    public DistanceController getDistanceController() {
+        return distanceController;
+    }
+
+    public ResourceSampler getResourceSampler() {
+        return resourceSampler;
+    }
 }
@@ -1,8 +1,13 @@
 package me.f0reach.timeattack.api;
 
 import me.f0reach.timeattack.PluginMain;
+import me.f0reach.timeattack.model.CompletionRecord;
 import me.f0reach.timeattack.model.Team;
 import me.f0reach.timeattack.model.WorldSet;
+import me.f0reach.timeattack.model.WorldSetResources;
+import org.bukkit.World;
+
+import java.util.List;
 
 /**
  * 外部プラグイン向けAPI
@@ -46,6 +51,21 @@ public final class TimeAttackAPI {
         return worldSet != null ? worldSet.getTeamName() : null;
     }
 
+    /**
+     * ワールドからチーム名を取得する（ワールドUIDの索引を使うため、イベントハンドラなどから頻繁に呼び出す場合に推奨）
+     *
+     * @param world ワールド
+     * @return チーム名、該当するチームがない場合はnull
+     */
+    public static String getTeamByWorld(World world) {
+        PluginMain plugin = PluginMain.getInstance();
+        if (plugin == null) {
+            return null;
+        }
+
+        return plugin.getWorldSetManager().getTeamNameByWorld(world);
+    }
+
     /**
      * チームの完了時間を取得する
      *
@@ -77,6 +97,21 @@ public final class TimeAttackAPI {
         return plugin.getWorldSetManager().isTimeAttackWorld(worldName);
     }
 
+    /**
+     * 指定されたワールドがタイムアタック用ワールドか確認する（ワールドUIDの索引を使用）
+     *
+     * @param world ワールド
+     * @return タイムアタック用ワールドの場合true
+     */
+    public static boolean isTimeAttackWorld(World world) {
+        PluginMain plugin = PluginMain.getInstance();
+        if (plugin == null) {
+            return false;
+        }
+
+        return plugin.getWorldSetManager().isTimeAttackWorld(world);
+    }
+
     /**
      * ゲームの現在の経過時間を取得する（全チーム共通）
      *
@@ -91,6 +126,115 @@ public final class TimeAttackAPI {
         return plugin.getTimeManager().getElapsedTime();
     }
 
+    /**
+     * ゲームの現在の経過時間をナノ秒で取得する（単調時計による計測値、サブミリ秒の精度）
+     *
+     * @return 経過時間（ナノ秒）、タイマーが動作していない場合は0
+     */
+    public static long getElapsedTimeNanos() {
+        PluginMain plugin = PluginMain.getInstance();
+        if (plugin == null) {
+            return 0;
+        }
+
+        return plugin.getTimeManager().getElapsedNanos();
+    }
+
+    /**
+     * ゲーム内時間（IGT）をtick数で取得する
+     * サーバーが処理したtick数で数えるため、高負荷で1tickが50msを超えても遅れは含まれない
+     *
+     * @return 経過tick数、タイマーが動作していない場合は0
+     */
+    public static long getIgtTicks() {
+        PluginMain plugin = PluginMain.getInstance();
+        if (plugin == null) {
+            return 0;
+        }
+
+        return plugin.getTimeManager().getIgtTicks();
+    }
+
+    /**
+     * チームのクリアタイムをゲーム内時間（IGT）のtick数で取得する
+     *
+     * @param teamName チーム名
+     * @return tick数、未完了・不明または該当チームがない場合は-1
+     */
+    public static long getCompletionIgtTicks(String teamName) {
+        PluginMain plugin = PluginMain.getInstance();
+        if (plugin == null) {
+            return -1;
+        }
+
+        Team team = plugin.getTeamManager().getTeam(teamName);
+        return team != null ? team.getCompletionIgtTicks() : -1;
+    }
+
+    /**
+     * チームの完了時間をナノ秒で取得する（サブミリ秒の精度）
+     *
+     * @param teamName チーム名
+     * @return 完了時間（ナノ秒）、未完了または該当チームがない場合は-1
+     */
+    public static long getCompletionTimeNanos(String teamName) {
+        PluginMain plugin = PluginMain.getInstance();
+        if (plugin == null) {
+            return -1;
+        }
+
+        Team team = plugin.getTeamManager().getTeam(teamName);
+        return team != null ? team.getCompletionNanos() : -1;
+    }
+
+    /**
+     * チームが完了したサーバーtick番号を取得する
+     *
+     * @param teamName チーム名
+     * @return tick番号、未完了・不明または該当チームがない場合は-1
+     */
+    public static int getCompletionTick(String teamName) {
+        PluginMain plugin = PluginMain.getInstance();
+        if (plugin == null) {
+            return -1;
+        }
+
+        Team team = plugin.getTeamManager().getTeam(teamName);
+        return team != null ? team.getCompletionTick() : -1;
+    }
+
+    /**
+     * チームのスプリット（途中経過）の経過時間をナノ秒で取得する
+     *
+     * @param teamName チーム名
+     * @param splitKey スプリットのキー（"nether", "end" または設定された実績キー）
+     * @return 経過時間（ナノ秒）、未記録または該当チームがない場合は-1
+     */
+    public static long getSplitTimeNanos(String teamName, String splitKey) {
+        PluginMain plugin = PluginMain.getInstance();
+        if (plugin == null) {
+            return -1;
+        }
+
+        Team team = plugin.getTeamManager().getTeam(teamName);
+        return team != null ? team.getSplits().getElapsedNanos(splitKey) : -1;
+    }
+
+    /**
+     * 完了したチームの記録を順位順で取得する
+     * 同じtickに完了したチームもナノ秒単位の計測値で決定的に順位付けされる
+     *
+     * @return 完了記録のリスト（変更不可）
+     */
+    public static List<CompletionRecord> getCompletionRecords() {
+        PluginMain plugin = PluginMain.getInstance();
+        if (plugin == null) {
+            return List.of();
+        }
+
+        return plugin.getGameManager().getCompletionRecords();
+    }
+
     /**
      * ゲームの開始時刻を取得する
      *
@@ -102,7 +246,25 @@ public final class TimeAttackAPI {
             return 0;
         }
 
-        return plugin.getConfigManager().getGameStartTime();
+        return plugin.getTimeManager().getGameStartTime();
+    }
+
+    /**
+     * チームのワールドセットごとのリソース使用量を取得する
+     * 値は1tickに1ワールドずつ計測したもので、計測間隔（worlds.resources.sample-interval）ごとに更新される
+     *
+     * @param sortBy 並べ替える項目（値の大きい順）、nullの場合はチーム名順
+     * @return リソース使用量のリスト
+     */
+    public static List<WorldSetResources> getWorldSetResources(WorldSetResources.Metric sortBy) {
+        PluginMain plugin = PluginMain.getInstance();
+        if (plugin == null) {
+            return List.of();
+        }
+
+        return sortBy != null
+                ? plugin.getResourceSampler().getResources(sortBy)
+                : plugin.getResourceSampler().getResources();
     }
 
     /**
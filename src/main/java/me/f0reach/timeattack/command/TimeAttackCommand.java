@@ -31,6 +31,7 @@ public class TimeAttackCommand implements CommandExecutor, TabCompleter {
         registerSubCommand(new SetupCommand(plugin));
         registerSubCommand(new CreateCommand(plugin));
         registerSubCommand(new DeleteCommand(plugin));
+        registerSubCommand(new RecycleCommand(plugin));
         registerSubCommand(new TeamCreateCommand(plugin));
         registerSubCommand(new TeamAddCommand(plugin));
         registerSubCommand(new TeamRemoveCommand(plugin));
@@ -38,6 +39,7 @@ public class TimeAttackCommand implements CommandExecutor, TabCompleter {
         registerSubCommand(new TeleportCommand(plugin));
         registerSubCommand(new StartCommand(plugin));
         registerSubCommand(new StatusCommand(plugin));
+        registerSubCommand(new ResourcesCommand(plugin));
         registerSubCommand(new CompleteCommand(plugin));
         registerSubCommand(new ResetCommand(plugin));
         registerSubCommand(new ReloadCommand(plugin));
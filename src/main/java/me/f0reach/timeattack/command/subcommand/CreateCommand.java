@@ -2,6 +2,7 @@ package me.f0reach.timeattack.command.subcommand;
 
 import me.f0reach.timeattack.PluginMain;
 import me.f0reach.timeattack.model.Team;
+import me.f0reach.timeattack.model.WorldCreationJob;
 import me.f0reach.timeattack.model.WorldSet;
 import me.f0reach.timeattack.util.MessageUtil;
 import org.bukkit.command.CommandSender;
@@ -75,29 +76,39 @@ public class CreateCommand extends SubCommand {
             return false;
         }
 
-        long seed = plugin.getConfigManager().getCurrentSeed();
-
-        if (sender instanceof Player player) {
-            MessageUtil.sendInfo(player, "ワールドを作成中... (シード: " + seed + ")");
+        // 作成待ち・作成中のジョブがあるか確認
+        WorldCreationJob pendingJob = plugin.getWorldCreationQueue().getPendingJob(teamName);
+        if (pendingJob != null) {
+            if (sender instanceof Player player) {
+                MessageUtil.sendError(player, "チーム「" + teamName + "」のワールドは作成中です (ジョブ #" + pendingJob.getId() + ")");
+            }
+            return false;
         }
 
-        // ワールドセットを作成
-        WorldSet worldSet = plugin.getWorldSetManager().createWorldSet(teamName, seed);
-        if (worldSet == null) {
+        long seed = plugin.getConfigManager().getCurrentSeed();
+
+        // プールに作成済みのワールドセットがあればすぐに割り当てる
+        WorldSet pooled = plugin.getWorldSetPool().claim(teamName);
+        if (pooled != null) {
+            plugin.getTeamManager().setTeamWorldSet(teamName, pooled);
             if (sender instanceof Player player) {
-                MessageUtil.sendError(player, "ワールドの作成に失敗しました");
+                MessageUtil.sendSuccess(player, "チーム「" + teamName + "」に作成済みのワールドを割り当てました");
+                MessageUtil.sendInfo(player, "  オーバーワールド: " + pooled.getOverworldName());
+                MessageUtil.sendInfo(player, "  ネザー: " + pooled.getNetherName());
+                MessageUtil.sendInfo(player, "  エンド: " + pooled.getEndName());
+            } else {
+                sender.sendMessage("チーム「" + teamName + "」に作成済みのワールドを割り当てました");
             }
-            return false;
+            return true;
         }
 
-        // チームにワールドセットを設定
-        plugin.getTeamManager().setTeamWorldSet(teamName, worldSet);
+        // 作成はキューで段階的に行い、進捗はジョブを追加した管理者に通知される
+        WorldCreationJob job = plugin.getWorldCreationQueue().enqueue(teamName, seed, sender);
 
         if (sender instanceof Player player) {
-            MessageUtil.sendSuccess(player, "チーム「" + teamName + "」のワールドを作成しました");
-            MessageUtil.sendInfo(player, "  オーバーワールド: " + worldSet.getOverworldName());
-            MessageUtil.sendInfo(player, "  ネザー: " + worldSet.getNetherName());
-            MessageUtil.sendInfo(player, "  エンド: " + worldSet.getEndName());
+            MessageUtil.sendInfo(player, "ワールドの作成をキューに追加しました (ジョブ #" + job.getId() + ", シード: " + seed + ")");
+        } else {
+            sender.sendMessage("ワールドの作成をキューに追加しました (ジョブ #" + job.getId() + ", シード: " + seed + ")");
         }
 
         return true;
@@ -109,6 +120,7 @@ public class CreateCommand extends SubCommand {
             String partial = args[0].toLowerCase();
             return plugin.getTeamManager().getAllTeams().stream()
                 .filter(team -> !team.hasWorldSet())
+                .filter(team -> plugin.getWorldCreationQueue().getPendingJob(team.getName()) == null)
                 .map(Team::getName)
                 .filter(name -> name.toLowerCase().startsWith(partial))
                 .collect(Collectors.toList());
@@ -0,0 +1,137 @@
+package me.f0reach.timeattack.command.subcommand;
+
+import me.f0reach.timeattack.PluginMain;
+import me.f0reach.timeattack.manager.WorldSetManager;
+import me.f0reach.timeattack.model.GameState;
+import me.f0reach.timeattack.model.Team;
+import org.bukkit.command.CommandSender;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+
+/**
+ * /ta recycle [team] - チームのワールドを作成直後の状態に戻す（省略時は全チーム）
+ */
+public class RecycleCommand extends SubCommand {
+    private boolean running;
+
+    public RecycleCommand(PluginMain plugin) {
+        super(plugin);
+    }
+
+    @Override
+    public String getName() {
+        return "recycle";
+    }
+
+    @Override
+    public String getDescription() {
+        return "チームのワールドを削除せずに作成直後の状態に戻します";
+    }
+
+    @Override
+    public String getUsage() {
+        return "/ta recycle [team]";
+    }
+
+    @Override
+    public String getPermission() {
+        return "timeattack.admin";
+    }
+
+    @Override
+    public boolean execute(CommandSender sender, String[] args) {
+        if (plugin.getGameManager().getGameState() == GameState.RUNNING || plugin.getStartTeleporter().isActive()) {
+            sendError(sender, "ゲーム進行中はワールドを戻せません。先に /ta reset を実行してください");
+            return false;
+        }
+        if (running) {
+            sendError(sender, "ワールドを戻している途中です");
+            return false;
+        }
+
+        List<Team> teams = new ArrayList<>();
+        if (args.length > 0) {
+            Team team = plugin.getTeamManager().getTeam(args[0]);
+            if (team == null) {
+                sendError(sender, "チーム「" + args[0] + "」が存在しません");
+                return false;
+            }
+            if (!team.hasWorldSet()) {
+                sendError(sender, "チーム「" + args[0] + "」のワールドは作成されていません");
+                return false;
+            }
+            teams.add(team);
+        } else {
+            for (Team team : plugin.getTeamManager().getAllTeams()) {
+                if (team.hasWorldSet()) {
+                    teams.add(team);
+                }
+            }
+        }
+
+        if (teams.isEmpty()) {
+            sendError(sender, "ワールドが作成されているチームがありません");
+            return false;
+        }
+
+        recycle(sender, teams);
+        return true;
+    }
+
+    /**
+     * 全チームのワールドを戻す（フォルダの置き換えはWorldSetManagerのファイル操作用スレッドで行う）
+     */
+    private void recycle(CommandSender sender, List<Team> teams) {
+        running = true;
+
+        sendInfo(sender, teams.size() + "チームのワールドを戻しています...");
+        long startMillis = System.currentTimeMillis();
+        AtomicInteger remaining = new AtomicInteger(teams.size());
+        List<String> failed = new ArrayList<>();
+        WorldSetManager worldSetManager = plugin.getWorldSetManager();
+
+        for (Team team : teams) {
+            // 例外で完了した場合もカウントとフラグを必ず更新する
+            worldSetManager.recycleWorldSet(team.getWorldSet()).whenCompleteAsync((success, error) -> {
+                if (error != null) {
+                    plugin.getLogger().log(Level.SEVERE, "Failed to recycle worlds for team: " + team.getName(), error);
+                    failed.add(team.getName());
+                } else if (success) {
+                    // ワールドのUIDが変わるため、スポーン周辺を生成し直す
+                    plugin.getChunkPregenerator().pregenerate(team.getWorldSet());
+                    sendInfo(sender, "チーム「" + team.getName() + "」のワールドを戻しました");
+                } else {
+                    failed.add(team.getName());
+                }
+
+                if (remaining.decrementAndGet() == 0) {
+                    running = false;
+                    long seconds = (System.currentTimeMillis() - startMillis) / 1000;
+                    if (failed.isEmpty()) {
+                        sendSuccess(sender, "全てのワールドを戻しました (" + seconds + "秒)");
+                    } else {
+                        sendError(sender, "ワールドを戻せなかったチーム: " + String.join(", ", failed)
+                                + "（プレイヤーがいないことを確認してください）");
+                    }
+                }
+            }, worldSetManager.getMainThreadExecutor());
+        }
+    }
+
+    @Override
+    public List<String> tabComplete(CommandSender sender, String[] args) {
+        if (args.length == 1) {
+            String partial = args[0].toLowerCase();
+            return plugin.getTeamManager().getAllTeams().stream()
+                    .filter(Team::hasWorldSet)
+                    .map(Team::getName)
+                    .filter(name -> name.toLowerCase().startsWith(partial))
+                    .collect(Collectors.toList());
+        }
+        return List.of();
+    }
+}
@@ -2,6 +2,7 @@ package me.f0reach.timeattack.command.subcommand;
 
 import me.f0reach.timeattack.PluginMain;
 import me.f0reach.timeattack.util.MessageUtil;
+import me.f0reach.timeattack.util.TimeUtil;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
@@ -40,6 +41,11 @@ public class ReloadCommand extends SubCommand {
     public boolean execute(CommandSender sender, String[] args) {
         plugin.getConfigManager().reload();
         MessageUtil.setPrefix(plugin.getConfigManager().getMessagePrefix());
+        TimeUtil.setFormat(plugin.getConfigManager().getTimeFormat());
+        plugin.getSplitManager().reload();
+        plugin.getWorldHibernator().start();
+        plugin.getDistanceController().start();
+        plugin.getResourceSampler().start();
 
         if (sender instanceof Player player) {
             MessageUtil.sendSuccess(player, "設定をリロードしました");
@@ -0,0 +1,133 @@
+package me.f0reach.timeattack.command.subcommand;
+
+import me.f0reach.timeattack.PluginMain;
+import me.f0reach.timeattack.manager.ResourceSampler;
+import me.f0reach.timeattack.model.WorldSetResources;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+
+/**
+ * /ta resources [項目] [export] - チームのワールドセットごとのリソース使用量を表示
+ */
+public class ResourcesCommand extends SubCommand {
+    private static final String EXPORT = "export";
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    public ResourcesCommand(PluginMain plugin) {
+        super(plugin);
+    }
+
+    @Override
+    public String getName() {
+        return "resources";
+    }
+
+    @Override
+    public String getDescription() {
+        return "チームのワールドごとのリソース使用量を表示します";
+    }
+
+    @Override
+    public String getUsage() {
+        return "/ta resources [chunks|entities|tiles|players|heap|disk] [export]";
+    }
+
+    @Override
+    public String getPermission() {
+        return "timeattack.admin";
+    }
+
+    @Override
+    public boolean execute(CommandSender sender, String[] args) {
+        WorldSetResources.Metric metric = WorldSetResources.Metric.CHUNKS;
+        boolean export = false;
+        for (String arg : args) {
+            if (arg.equalsIgnoreCase(EXPORT)) {
+                export = true;
+                continue;
+            }
+            metric = WorldSetResources.Metric.fromKey(arg);
+            if (metric == null) {
+                sendError(sender, "不明な項目です: " + arg);
+                return false;
+            }
+        }
+
+        if (plugin.getConfigManager().getResourceSampleInterval() <= 0) {
+            sendError(sender, "リソースの計測は無効です（worlds.resources.sample-interval）");
+            return false;
+        }
+
+        List<WorldSetResources> resources = plugin.getResourceSampler().getResources(metric);
+        if (resources.isEmpty()) {
+            sendError(sender, "ワールドが作成されているチームがありません");
+            return false;
+        }
+
+        sender.sendMessage("§6=== リソース使用量（" + metric.getKey() + "順） ===");
+        for (WorldSetResources entry : resources) {
+            sender.sendMessage("§e" + entry.teamName() + " §7(" + entry.loadedWorlds() + "/3ワールド読み込み中)");
+            sender.sendMessage("  §fチャンク: " + entry.chunks()
+                    + " §7| §fエンティティ: " + entry.entities()
+                    + " §7| §fタイルエンティティ: " + entry.tileEntities()
+                    + " §7| §fプレイヤー: " + entry.players());
+            sender.sendMessage("  §fヒープ(推定): " + formatBytes(entry.heapBytes())
+                    + " §7| §fリージョン: " + (entry.diskBytes() < 0 ? "計測中" : formatBytes(entry.diskBytes())));
+        }
+
+        if (export) {
+            export(sender, resources);
+        }
+        return true;
+    }
+
+    /**
+     * 集計結果をプラグインフォルダの resources/ にCSVで書き出す（バックグラウンドで行う）
+     */
+    private void export(CommandSender sender, List<WorldSetResources> resources) {
+        Path file = plugin.getDataFolder().toPath().resolve("resources")
+                .resolve("resources-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".csv");
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                ResourceSampler.exportCsv(resources, file);
+                Bukkit.getScheduler().runTask(plugin, () ->
+                        sendSuccess(sender, "書き出しました: " + plugin.getDataFolder().toPath().relativize(file)));
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.WARNING, "Failed to export resource usage to " + file, e);
+                Bukkit.getScheduler().runTask(plugin, () -> sendError(sender, "書き出しに失敗しました"));
+            }
+        });
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes >= 1024L * 1024 * 1024) {
+            return String.format("%.1f GiB", bytes / (1024.0 * 1024 * 1024));
+        }
+        return String.format("%.1f MiB", bytes / (1024.0 * 1024));
+    }
+
+    @Override
+    public List<String> tabComplete(CommandSender sender, String[] args) {
+        List<String> options = new ArrayList<>();
+        if (args.length == 1) {
+            Arrays.stream(WorldSetResources.Metric.values()).map(WorldSetResources.Metric::getKey).forEach(options::add);
+        }
+        if (args.length <= 2) {
+            options.add(EXPORT);
+        }
+        String partial = args.length > 0 ? args[args.length - 1].toLowerCase() : "";
+        return options.stream()
+                .filter(option -> option.startsWith(partial))
+                .collect(Collectors.toList());
+    }
+}
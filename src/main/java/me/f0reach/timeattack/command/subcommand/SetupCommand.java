@@ -58,8 +58,15 @@ public class SetupCommand extends SubCommand {
             }
         }
 
+        boolean seedChanged = !plugin.getConfigManager().hasSeed()
+                || plugin.getConfigManager().getCurrentSeed() != seed;
         plugin.getConfigManager().setCurrentSeed(seed);
 
+        // 古いシードで作成したプールのワールドセットを破棄（新しいシードで補充される）
+        if (seedChanged) {
+            plugin.getWorldSetPool().invalidate();
+        }
+
         if (sender instanceof Player player) {
             MessageUtil.sendSuccess(player, "シードを設定しました: " + seed);
         } else {
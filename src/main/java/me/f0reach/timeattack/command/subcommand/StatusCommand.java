@@ -1,8 +1,10 @@
 package me.f0reach.timeattack.command.subcommand;
 
 import me.f0reach.timeattack.PluginMain;
+import me.f0reach.timeattack.manager.WorldCreationQueue;
 import me.f0reach.timeattack.model.GameState;
 import me.f0reach.timeattack.model.Team;
+import me.f0reach.timeattack.model.WorldCreationJob;
 import me.f0reach.timeattack.util.MessageUtil;
 import me.f0reach.timeattack.util.TimeUtil;
 
@@ -79,6 +81,35 @@ public class StatusCommand extends SubCommand {
             sender.sendMessage("§eシード: §c未設定");
         }
 
+        if (plugin.getTimeManager().isTimerRunning()) {
+            sender.sendMessage("§e経過時間: §f" + TimeUtil.formatTime(plugin.getTimeManager().getElapsedTime())
+                    + " §7(IGT " + TimeUtil.formatTime(plugin.getTimeManager().getIgtTime())
+                    + ", " + plugin.getTimeManager().getIgtTicks() + " tick)");
+        }
+
+        if (plugin.getConfigManager().isDebug()) {
+            var renderer = plugin.getTimeManager().getActionBarRenderer();
+            sender.sendMessage("§eアクションバー送信: §f" + renderer.getPacketsSent()
+                    + " §7(省略: " + renderer.getPacketsSaved() + ")");
+        }
+
+        for (WorldCreationJob job : plugin.getWorldCreationQueue().getJobs()) {
+            if (!job.isFinished()) {
+                sender.sendMessage("§eワールド作成 #" + job.getId() + ": §f" + job.getTeamName()
+                        + " §7(" + WorldCreationQueue.getStateDisplayName(job) + ")");
+            }
+        }
+
+        int[] pregenerate = plugin.getChunkPregenerator().getPendingTotals();
+        if (pregenerate[1] > 0) {
+            sender.sendMessage("§eチャンク事前生成: §f" + pregenerate[0] + "/" + pregenerate[1]);
+        }
+
+        int poolSize = plugin.getConfigManager().getWorldPoolSize();
+        if (poolSize > 0) {
+            sender.sendMessage("§eワールドプール: §f" + plugin.getWorldSetPool().size() + "/" + poolSize);
+        }
+
         var teams = plugin.getTeamManager().getAllTeams();
         sender.sendMessage("§eチーム数: §f" + teams.size());
 
@@ -98,6 +129,10 @@ public class StatusCommand extends SubCommand {
                 }
 
                 String worldStatus = team.hasWorldSet() ? "" : " §c(ワールド未作成)";
+                WorldCreationJob job = plugin.getWorldCreationQueue().getPendingJob(team.getName());
+                if (job != null) {
+                    worldStatus = " §e(ワールド" + WorldCreationQueue.getStateDisplayName(job) + ")";
+                }
                 sender.sendMessage(stateIcon + " §e" + team.getName() +
                         " §7(" + team.getMemberCount() + "人)" + time + worldStatus);
             }
@@ -110,9 +145,15 @@ public class StatusCommand extends SubCommand {
         sender.sendMessage("§eメンバー数: §f" + team.getMemberCount());
 
         for (UUID memberId : team.getMembers()) {
-            Player member = Bukkit.getPlayer(memberId);
-            String memberName = member != null ? member.getName() : memberId.toString().substring(0, 8) + "...";
-            String online = member != null && member.isOnline() ? "§a●" : "§c○";
+            Player member = team.getOnlineMember(memberId);
+            String memberName;
+            if (member != null) {
+                memberName = member.getName();
+            } else {
+                String offlineName = Bukkit.getOfflinePlayer(memberId).getName();
+                memberName = offlineName != null ? offlineName : memberId.toString().substring(0, 8) + "...";
+            }
+            String online = member != null ? "§a●" : "§c○";
             sender.sendMessage("  " + online + " " + memberName);
         }
 
@@ -121,6 +162,10 @@ public class StatusCommand extends SubCommand {
             sender.sendMessage("  §7オーバーワールド: " + team.getWorldSet().getOverworldName());
             sender.sendMessage("  §7ネザー: " + team.getWorldSet().getNetherName());
             sender.sendMessage("  §7エンド: " + team.getWorldSet().getEndName());
+            var progress = plugin.getChunkPregenerator().getProgress(team.getWorldSet());
+            if (progress != null && !progress.isDone()) {
+                sender.sendMessage("  §7チャンク事前生成: " + progress.getCompleted() + "/" + progress.getTotal());
+            }
         } else {
             sender.sendMessage("§eワールド: §c未作成");
         }
@@ -128,8 +173,20 @@ public class StatusCommand extends SubCommand {
         if (team.getState() == GameState.RUNNING) {
             long elapsed = plugin.getTimeManager().getElapsedTime();
             sender.sendMessage("§e経過時間: §f" + TimeUtil.formatTime(elapsed));
+            sender.sendMessage("§eIGT: §f" + TimeUtil.formatTime(plugin.getTimeManager().getIgtTime()));
         } else if (team.getState() == GameState.COMPLETED) {
             sender.sendMessage("§eクリアタイム: §a" + TimeUtil.formatTime(team.getCompletionTime()));
+            if (team.getCompletionIgtTicks() >= 0) {
+                sender.sendMessage("§eIGT: §a" + TimeUtil.formatTime(team.getCompletionIgtTicks() * 50L)
+                        + " §7(" + team.getCompletionIgtTicks() + " tick)");
+            }
+        }
+
+        if (team.getSplits().size() > 0) {
+            sender.sendMessage("§eスプリット:");
+            for (String line : plugin.getSplitManager().formatSplits(team.getSplits())) {
+                sender.sendMessage("  §7" + line);
+            }
         }
     }
 
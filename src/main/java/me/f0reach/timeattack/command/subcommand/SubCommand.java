@@ -1,7 +1,9 @@
 package me.f0reach.timeattack.command.subcommand;
 
 import me.f0reach.timeattack.PluginMain;
+import me.f0reach.timeattack.util.MessageUtil;
 import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
 
 import java.util.Collections;
 import java.util.List;
@@ -61,4 +63,37 @@ public abstract class SubCommand {
         String permission = getPermission();
         return permission == null || permission.isEmpty() || sender.hasPermission(permission);
     }
+
+    /**
+     * 情報メッセージを送信（プレイヤー以外にはそのまま送信）
+     */
+    protected void sendInfo(CommandSender sender, String message) {
+        if (sender instanceof Player player) {
+            MessageUtil.sendInfo(player, message);
+        } else {
+            sender.sendMessage(message);
+        }
+    }
+
+    /**
+     * 成功メッセージを送信（プレイヤー以外にはそのまま送信）
+     */
+    protected void sendSuccess(CommandSender sender, String message) {
+        if (sender instanceof Player player) {
+            MessageUtil.sendSuccess(player, message);
+        } else {
+            sender.sendMessage(message);
+        }
+    }
+
+    /**
+     * エラーメッセージを送信（プレイヤー以外にはそのまま送信）
+     */
+    protected void sendError(CommandSender sender, String message) {
+        if (sender instanceof Player player) {
+            MessageUtil.sendError(player, message);
+        } else {
+            sender.sendMessage(message);
+        }
+    }
 }
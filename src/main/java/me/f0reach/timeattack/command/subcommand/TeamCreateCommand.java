@@ -6,10 +6,14 @@ import me.f0reach.timeattack.util.MessageUtil;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
- * /ta teamcreate <name> - 新しいチームを作成（管理者専用）
+ * /ta teamcreate <name> [name...] - 新しいチームを作成（管理者専用、複数指定で一括作成）
  */
 public class TeamCreateCommand extends SubCommand {
 
@@ -29,7 +33,7 @@ public class TeamCreateCommand extends SubCommand {
 
     @Override
     public String getUsage() {
-        return "/ta teamcreate <name>";
+        return "/ta teamcreate <name> [name...]";
     }
 
     @Override
@@ -48,18 +52,25 @@ public class TeamCreateCommand extends SubCommand {
             return false;
         }
 
-        String teamName = args[0];
-
         // チーム名のバリデーション
-        if (!teamName.matches("^[a-zA-Z0-9_-]+$")) {
-            if (sender instanceof Player player) {
-                MessageUtil.sendError(player, "チーム名は英数字、アンダースコア、ハイフンのみ使用できます");
-            } else {
-                sender.sendMessage("チーム名は英数字、アンダースコア、ハイフンのみ使用できます");
+        for (String name : args) {
+            if (!name.matches("^[a-zA-Z0-9_-]+$")) {
+                if (sender instanceof Player player) {
+                    MessageUtil.sendError(player, "チーム名は英数字、アンダースコア、ハイフンのみ使用できます");
+                } else {
+                    sender.sendMessage("チーム名は英数字、アンダースコア、ハイフンのみ使用できます");
+                }
+                return false;
             }
-            return false;
         }
 
+        // 複数指定の場合は一括作成
+        if (args.length > 1) {
+            return createTeams(sender, args);
+        }
+
+        String teamName = args[0];
+
         Team team = plugin.getTeamManager().createTeam(teamName);
         if (team == null) {
             if (sender instanceof Player player) {
@@ -78,6 +89,30 @@ public class TeamCreateCommand extends SubCommand {
         return true;
     }
 
+    private boolean createTeams(CommandSender sender, String[] names) {
+        Set<String> uniqueNames = new LinkedHashSet<>(Arrays.asList(names));
+        List<Team> created = plugin.getTeamManager().createTeams(uniqueNames);
+
+        String message = created.size() + "個のチームを作成しました: " +
+                created.stream().map(Team::getName).collect(Collectors.joining(", "));
+        if (sender instanceof Player player) {
+            MessageUtil.sendSuccess(player, message);
+        } else {
+            sender.sendMessage(message);
+        }
+
+        int skipped = uniqueNames.size() - created.size();
+        if (skipped > 0) {
+            String warning = skipped + "個のチームは既に存在するためスキップしました";
+            if (sender instanceof Player player) {
+                MessageUtil.sendWarning(player, warning);
+            } else {
+                sender.sendMessage(warning);
+            }
+        }
+        return !created.isEmpty();
+    }
+
     @Override
     public List<String> tabComplete(CommandSender sender, String[] args) {
         return List.of();
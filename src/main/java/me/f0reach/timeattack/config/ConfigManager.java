@@ -2,15 +2,17 @@ package me.f0reach.timeattack.config;
 
 import me.f0reach.timeattack.PluginMain;
 import me.f0reach.timeattack.model.GameState;
+import me.f0reach.timeattack.model.SplitBuffer;
 import me.f0reach.timeattack.model.Team;
 import me.f0reach.timeattack.model.WorldSet;
-import org.bukkit.configuration.ConfigurationSection;
+import me.f0reach.timeattack.storage.*;
+import me.f0reach.timeattack.util.TimeFormat;
 import org.bukkit.configuration.file.FileConfiguration;
-import org.bukkit.configuration.file.YamlConfiguration;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
+import java.util.logging.Level;
 
 /**
  * プラグインの設定を管理するクラス
@@ -18,20 +20,48 @@ import java.util.*;
 public class ConfigManager {
     private final PluginMain plugin;
     private FileConfiguration config;
-    private File gameDataFile;
-    private YamlConfiguration gameData;
+    private GameData gameData;
+    private GameDataWriter gameDataWriter;
+    private GameJournal journal;
 
     // 設定値のキャッシュ
     private boolean debug;
     private String messagePrefix;
     private boolean generateStructures;
+    private int maxConcurrentWorldCreations;
+    private int worldCreationInterval;
+    private boolean worldTemplateEnabled;
+    private int templateCacheBudgetMb;
+    private int worldPoolSize;
+    private int pregenerateRadius;
+    private int pregenerateChunksPerTick;
+    private boolean lazyLoadDimensions;
+    private int hibernateIdleSeconds;
+    private boolean adaptiveDistanceEnabled;
+    private int adaptiveDistanceInterval;
+    private double adaptiveDistanceMsptHigh;
+    private double adaptiveDistanceMsptLow;
+    private int adaptiveDistanceMinView;
+    private int adaptiveDistanceMinSimulation;
+    private int resourceSampleInterval;
     private int maxTeamMembers;
     private boolean autoAssignEnabled;
     private boolean autoAssignOnlyWhenWaiting;
     private int startCountdown;
     private boolean showTitleOnStart;
+    private int startTeleportsPerTick;
     private int timeUpdateInterval;
     private boolean showActionbar;
+    private boolean showIgt;
+    private boolean bossBarEnabled;
+    private boolean bossBarSplitProgress;
+    private TimeFormat timeFormat;
+    private boolean rankByIgt;
+    private StorageType storageType;
+    private int saveInterval;
+    private boolean journalEnabled;
+    private int journalFlushInterval;
+    private int journalCompactInterval;
 
     // チームカラー設定
     private boolean teamColorsEnabled;
@@ -41,6 +71,8 @@ public class ConfigManager {
 
     // 実績達成条件
     private List<String> completionAdvancements;
+    private boolean splitsEnabled;
+    private List<String> splitAdvancements;
 
     public ConfigManager(PluginMain plugin) {
         this.plugin = plugin;
@@ -59,13 +91,40 @@ public class ConfigManager {
         debug = config.getBoolean("general.debug", false);
         messagePrefix = config.getString("general.message-prefix", "[TimeAttack] ");
         generateStructures = config.getBoolean("worlds.generate-structures", true);
+        maxConcurrentWorldCreations = config.getInt("worlds.creation.max-concurrent", 1);
+        worldCreationInterval = config.getInt("worlds.creation.stage-interval", 20);
+        worldTemplateEnabled = config.getBoolean("worlds.template.enabled", false);
+        templateCacheBudgetMb = config.getInt("worlds.template.cache-size-mb", 8192);
+        worldPoolSize = config.getInt("worlds.pool.size", 0);
+        pregenerateRadius = config.getInt("worlds.pregenerate.radius", 4);
+        pregenerateChunksPerTick = config.getInt("worlds.pregenerate.chunks-per-tick", 4);
+        lazyLoadDimensions = config.getBoolean("worlds.lazy-load.enabled", true);
+        hibernateIdleSeconds = config.getInt("worlds.lazy-load.idle-timeout", 300);
+        adaptiveDistanceEnabled = config.getBoolean("worlds.adaptive-distance.enabled", false);
+        adaptiveDistanceInterval = config.getInt("worlds.adaptive-distance.check-interval", 100);
+        adaptiveDistanceMsptHigh = config.getDouble("worlds.adaptive-distance.mspt-high", 45.0);
+        adaptiveDistanceMsptLow = config.getDouble("worlds.adaptive-distance.mspt-low", 35.0);
+        adaptiveDistanceMinView = config.getInt("worlds.adaptive-distance.min-view-distance", 4);
+        adaptiveDistanceMinSimulation = config.getInt("worlds.adaptive-distance.min-simulation-distance", 3);
+        resourceSampleInterval = config.getInt("worlds.resources.sample-interval", 100);
         maxTeamMembers = config.getInt("teams.max-members", 4);
         autoAssignEnabled = config.getBoolean("teams.auto-assign.enabled", true);
         autoAssignOnlyWhenWaiting = config.getBoolean("teams.auto-assign.only-when-waiting", true);
         startCountdown = config.getInt("game.start-countdown", 10);
         showTitleOnStart = config.getBoolean("game.show-title-on-start", true);
+        startTeleportsPerTick = config.getInt("game.start-teleport.per-tick", 5);
         timeUpdateInterval = config.getInt("time.update-interval", 20);
         showActionbar = config.getBoolean("time.show-actionbar", true);
+        showIgt = config.getBoolean("time.igt.show-actionbar", false);
+        bossBarEnabled = config.getBoolean("time.bossbar.enabled", false);
+        bossBarSplitProgress = "splits".equalsIgnoreCase(config.getString("time.bossbar.progress", "splits"));
+        timeFormat = loadTimeFormat(config.getString("time.format", TimeFormat.DEFAULT_PATTERN));
+        rankByIgt = "igt".equalsIgnoreCase(config.getString("time.igt.ranking", "realtime"));
+        storageType = loadStorageType(config.getString("storage.backend", "yaml"));
+        saveInterval = config.getInt("storage.save-interval", 100);
+        journalEnabled = config.getBoolean("storage.journal.enabled", false);
+        journalFlushInterval = config.getInt("storage.journal.flush-interval", 20);
+        journalCompactInterval = config.getInt("storage.journal.compact-interval", 6000);
 
         // チームカラー設定
         teamColorsEnabled = config.getBoolean("teams.colors.enabled", true);
@@ -78,17 +137,156 @@ public class ConfigManager {
 
         // 実績達成条件
         completionAdvancements = config.getStringList("game.completion-advancements");
+        splitsEnabled = config.getBoolean("game.splits.enabled", true);
+        splitAdvancements = config.getStringList("game.splits.advancements");
 
-        // game-data.yml
-        gameDataFile = new File(plugin.getDataFolder(), "game-data.yml");
-        if (!gameDataFile.exists()) {
-            try {
-                gameDataFile.createNewFile();
-            } catch (IOException e) {
-                plugin.getLogger().severe("Failed to create game-data.yml: " + e.getMessage());
+        // ゲームデータ（リロード時は未保存の変更を先に書き出す）
+        closeGameData();
+        openGameData();
+    }
+
+    /**
+     * 時間フォーマットを解析（不正な場合はデフォルトを使用）
+     */
+    private TimeFormat loadTimeFormat(String pattern) {
+        try {
+            return TimeFormat.compile(pattern);
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("Invalid time.format '" + pattern + "', using default: " + e.getMessage());
+            return TimeFormat.compile(TimeFormat.DEFAULT_PATTERN);
+        }
+    }
+
+    /**
+     * ストレージの種類を解析（不明な場合はYAMLを使用）
+     */
+    private StorageType loadStorageType(String value) {
+        try {
+            return StorageType.fromConfig(value);
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("Invalid storage.backend '" + value
+                    + "' (expected yaml, binary or sqlite), using yaml");
+            return StorageType.YAML;
+        }
+    }
+
+    /**
+     * ストレージからゲームデータを読み込み、書き込みとジャーナルを開始する
+     */
+    private void openGameData() {
+        File dataFolder = plugin.getDataFolder();
+        if (!dataFolder.exists() && !dataFolder.mkdirs()) {
+            plugin.getLogger().severe("Failed to create plugin data folder");
+        }
+
+        GameDataStorage storage = storageType.create(dataFolder);
+        migrateLegacyGameData(storage);
+
+        try {
+            gameData = storage.load();
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to load " + storage.getName() + ", starting with empty game data", e);
+            gameData = new GameData();
+        }
+
+        gameDataWriter = new GameDataWriter(plugin, storage, () -> gameData.copy());
+        gameDataWriter.start(saveInterval);
+
+        // game-data.journal（スナップショット以降の変更を再生）
+        openJournal();
+    }
+
+    /**
+     * YAML以外のストレージにデータがない場合、既存の game-data.yml から移行する
+     */
+    private void migrateLegacyGameData(GameDataStorage storage) {
+        if (storage instanceof YamlGameDataStorage || storage.exists()) {
+            return;
+        }
+
+        YamlGameDataStorage legacy = new YamlGameDataStorage(new File(plugin.getDataFolder(), "game-data.yml"));
+        if (!legacy.exists()) {
+            return;
+        }
+
+        try {
+            storage.save(legacy.load());
+            plugin.getLogger().info("Migrated game data from " + legacy.getName() + " to " + storage.getName()
+                    + " (the original file is kept as a backup)");
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to migrate " + legacy.getName() + " to " + storage.getName(), e);
+        }
+    }
+
+    /**
+     * ジャーナルを再生し、有効な場合は追記を開始する
+     */
+    private void openJournal() {
+        File journalFile = new File(plugin.getDataFolder(), "game-data.journal");
+        GameJournal loaded = new GameJournal(plugin.getLogger(), journalFile, gameDataWriter.getExecutor());
+
+        // 無効化されていても前回のジャーナルが残っていれば再生する
+        int replayed = loaded.replay(gameData::apply);
+        if (replayed > 0) {
+            plugin.getLogger().info("Replayed " + replayed + " events from game-data.journal");
+        }
+
+        if (!journalEnabled) {
+            if (journalFile.exists()) {
+                // 再生結果をスナップショットに反映してからジャーナルを削除（保存に失敗した場合は残す）
+                if (!gameDataWriter.saveSnapshotSync()) {
+                    plugin.getLogger().warning("Keeping game-data.journal because the snapshot could not be saved");
+                } else if (!journalFile.delete()) {
+                    plugin.getLogger().warning("Failed to delete game-data.journal");
+                }
             }
+            return;
+        }
+
+        try {
+            loaded.start(plugin, journalFlushInterval, journalCompactInterval, this::compactGameData);
+            journal = loaded;
+        } catch (IOException e) {
+            plugin.getLogger().severe("Failed to open game-data.journal, falling back to snapshot saves: " + e.getMessage());
+            return;
+        }
+
+        if (replayed > 0) {
+            compactGameData();
+        }
+    }
+
+    /**
+     * スナップショットを書き出してジャーナルを切り詰める
+     */
+    private void compactGameData() {
+        // スナップショットの保存に失敗した場合に備え、バッファ内のイベントも先にジャーナルへ書き込んでおく
+        journal.flush();
+        journal.truncate(gameDataWriter.saveSnapshot());
+    }
+
+    /**
+     * ジャーナルを閉じ、未保存のゲームデータを書き出して書き込みスレッドを停止する
+     */
+    private void closeGameData() {
+        if (journal != null) {
+            compactGameData();
+            journal.close();
+            journal = null;
+        }
+        if (gameDataWriter != null) {
+            gameDataWriter.shutdown();
+            gameDataWriter = null;
+        }
+    }
+
+    /**
+     * ジャーナルにイベントを記録（ジャーナル無効時は何もしない）
+     */
+    private void record(JournalEvent event) {
+        if (journal != null) {
+            journal.append(event);
         }
-        gameData = YamlConfiguration.loadConfiguration(gameDataFile);
     }
 
     /**
@@ -99,14 +297,39 @@ public class ConfigManager {
     }
 
     /**
-     * ゲームデータを保存
+     * ゲームデータを保存（変更をマークし、次回のフラッシュでバックグラウンド書き込みされる）
      */
     public void saveGameData() {
-        try {
-            gameData.save(gameDataFile);
-        } catch (IOException e) {
-            plugin.getLogger().severe("Failed to save game-data.yml: " + e.getMessage());
+        // ジャーナル有効時は変更がイベントとして記録済みのため、スナップショットはコンパクション時のみ書き出す
+        if (journal == null) {
+            gameDataWriter.markDirty();
+        }
+    }
+
+    /**
+     * 未保存のゲームデータを同期的に書き出す
+     */
+    public void flushGameData() {
+        if (journal != null) {
+            journal.flush();
         }
+        if (gameDataWriter != null) {
+            gameDataWriter.flushSync();
+        }
+    }
+
+    /**
+     * 終了処理（未保存のゲームデータを書き出して書き込みスレッドを停止）
+     */
+    public void shutdown() {
+        closeGameData();
+    }
+
+    /**
+     * 使用中のストレージの種類を取得
+     */
+    public StorageType getStorageType() {
+        return storageType;
     }
 
     // ========== ゲームデータの読み書き ==========
@@ -115,14 +338,15 @@ public class ConfigManager {
      * 現在のシードを取得
      */
     public long getCurrentSeed() {
-        return gameData.getLong("current-seed", 0);
+        return gameData.getCurrentSeed();
     }
 
     /**
      * シードを設定
      */
     public void setCurrentSeed(long seed) {
-        gameData.set("current-seed", seed);
+        gameData.setCurrentSeed(seed);
+        record(JournalEvent.seedSet(seed));
         saveGameData();
     }
 
@@ -130,17 +354,16 @@ public class ConfigManager {
      * シードが設定されているか確認
      */
     public boolean hasSeed() {
-        return gameData.contains("current-seed") && getCurrentSeed() != 0;
+        return gameData.getCurrentSeed() != 0;
     }
 
     /**
      * グローバルゲーム状態を取得
      */
     public GameState getGlobalGameState() {
-        String state = gameData.getString("game-state", "WAITING");
         try {
-            return GameState.valueOf(state);
-        } catch (IllegalArgumentException e) {
+            return GameState.valueOf(gameData.getGameState());
+        } catch (IllegalArgumentException | NullPointerException e) {
             return GameState.WAITING;
         }
     }
@@ -149,7 +372,8 @@ public class ConfigManager {
      * グローバルゲーム状態を設定
      */
     public void setGlobalGameState(GameState state) {
-        gameData.set("game-state", state.name());
+        gameData.setGameState(state.name());
+        record(JournalEvent.gameStateSet(state.name()));
         saveGameData();
     }
 
@@ -157,31 +381,128 @@ public class ConfigManager {
      * チームデータを保存
      */
     public void saveTeam(Team team) {
-        String path = "teams." + team.getName();
+        writeTeam(team);
+        saveGameData();
+    }
 
-        // メンバーをUUID文字列リストとして保存
-        List<String> memberStrings = new ArrayList<>();
-        for (UUID uuid : team.getMembers()) {
-            memberStrings.add(uuid.toString());
+    /**
+     * 複数のチームデータをまとめて保存（保存処理は1回に集約される）
+     */
+    public void saveTeams(Collection<Team> teams) {
+        if (teams.isEmpty()) {
+            return;
+        }
+        for (Team team : teams) {
+            writeTeam(team);
         }
-        gameData.set(path + ".members", memberStrings);
+        saveGameData();
+    }
+
+    /**
+     * チームデータをメモリ上のゲームデータに書き込む（ストレージには保存しない）
+     */
+    private void writeTeam(Team team) {
+        TeamData stored = gameData.getTeam(team.getName());
+        if (journal != null) {
+            recordTeamChanges(team, stored);
+        }
+        if (stored == null) {
+            stored = gameData.getOrCreateTeam(team.getName());
+        }
+
+        // メンバー
+        stored.getMembers().clear();
+        stored.getMembers().addAll(team.getMembers());
 
         // ワールドセット情報
         WorldSet worldSet = team.getWorldSet();
         if (worldSet != null) {
-            gameData.set(path + ".world-set.overworld", worldSet.getOverworldName());
-            gameData.set(path + ".world-set.nether", worldSet.getNetherName());
-            gameData.set(path + ".world-set.end", worldSet.getEndName());
+            stored.setWorldSet(worldSet.getOverworldName(), worldSet.getNetherName(), worldSet.getEndName());
         }
 
         // 状態
-        gameData.set(path + ".state", team.getState().name());
-        gameData.set(path + ".completion-time", team.getCompletionTime());
+        stored.setState(team.getState().name());
+        stored.setCompletionTime(team.getCompletionTime());
+        stored.setCompletionNanos(team.getCompletionNanos());
+        stored.setCompletionTick(team.getCompletionTick());
+        stored.setCompletionIgtTicks(team.getCompletionIgtTicks());
+
+        // スプリット（変更があった場合のみ書き換える）
+        if (!splitsMatch(team.getSplits(), stored.getSplits())) {
+            stored.getSplits().clear();
+            stored.getSplits().addAll(toSplitData(team.getSplits()));
+        }
 
         // チームカラー
-        gameData.set(path + ".color", team.getColor());
+        stored.setColor(team.getColor());
+    }
 
-        saveGameData();
+    /**
+     * スプリットの記録が保存済みのものと一致するか確認
+     */
+    private static boolean splitsMatch(SplitBuffer splits, List<SplitData> stored) {
+        if (splits.size() != stored.size()) {
+            return false;
+        }
+        for (int i = 0; i < splits.size(); i++) {
+            SplitData data = stored.get(i);
+            if (!splits.getKey(i).equals(data.key()) || splits.getElapsedNanos(i) != data.elapsedNanos()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<SplitData> toSplitData(SplitBuffer splits) {
+        List<SplitData> list = new ArrayList<>(splits.size());
+        for (int i = 0; i < splits.size(); i++) {
+            list.add(new SplitData(splits.getKey(i), splits.getElapsedNanos(i), splits.getIgtTicks(i)));
+        }
+        return list;
+    }
+
+    /**
+     * 保存済みのチームデータとの差分をジャーナルに記録
+     */
+    private void recordTeamChanges(Team team, TeamData stored) {
+        String name = team.getName();
+        if (stored == null) {
+            record(JournalEvent.teamCreated(name));
+            stored = new TeamData(name);
+        }
+
+        for (UUID uuid : team.getMembers()) {
+            if (!stored.getMembers().contains(uuid)) {
+                record(JournalEvent.memberAdded(name, uuid));
+            }
+        }
+        for (UUID uuid : stored.getMembers()) {
+            if (!team.hasMember(uuid)) {
+                record(JournalEvent.memberRemoved(name, uuid));
+            }
+        }
+
+        WorldSet worldSet = team.getWorldSet();
+        if (worldSet != null && !worldSet.getOverworldName().equals(stored.getOverworld())) {
+            record(JournalEvent.teamWorldSet(name,
+                    worldSet.getOverworldName(), worldSet.getNetherName(), worldSet.getEndName()));
+        }
+
+        if (!team.getState().name().equals(stored.getState())) {
+            record(JournalEvent.teamStateSet(name, team.getState().name()));
+        }
+        if (team.getCompletionTime() != stored.getCompletionTime()
+                || team.getCompletionNanos() != stored.getCompletionNanos()
+                || team.getCompletionIgtTicks() != stored.getCompletionIgtTicks()) {
+            record(JournalEvent.completionRecorded(name, team.getCompletionTime(),
+                    team.getCompletionNanos(), team.getCompletionTick(), team.getCompletionIgtTicks()));
+        }
+        if (!Objects.equals(team.getColor(), stored.getColor())) {
+            record(JournalEvent.teamColorSet(name, team.getColor()));
+        }
+        if (!splitsMatch(team.getSplits(), stored.getSplits())) {
+            record(JournalEvent.teamSplitsSet(name, toSplitData(team.getSplits())));
+        }
     }
 
     /**
@@ -189,46 +510,46 @@ public class ConfigManager {
      */
     public Map<String, Team> loadTeams(long seed) {
         Map<String, Team> teams = new HashMap<>();
-        ConfigurationSection teamsSection = gameData.getConfigurationSection("teams");
-
-        if (teamsSection == null) {
-            return teams;
-        }
 
-        for (String teamName : teamsSection.getKeys(false)) {
-            String path = "teams." + teamName;
+        for (TeamData stored : gameData.getTeams().values()) {
+            String teamName = stored.getName();
             Team team = new Team(teamName);
 
             // メンバー読み込み
-            List<String> memberStrings = gameData.getStringList(path + ".members");
-            for (String uuidStr : memberStrings) {
-                try {
-                    team.addMember(UUID.fromString(uuidStr));
-                } catch (IllegalArgumentException ignored) {
-                }
+            for (UUID memberId : stored.getMembers()) {
+                team.addMember(memberId);
             }
 
             // ワールドセット
-            if (gameData.contains(path + ".world-set.overworld")) {
-                String overworld = gameData.getString(path + ".world-set.overworld");
-                String nether = gameData.getString(path + ".world-set.nether");
-                String end = gameData.getString(path + ".world-set.end");
-                WorldSet worldSet = new WorldSet(teamName, overworld, nether, end, seed);
+            if (stored.hasWorldSet()) {
+                WorldSet worldSet = new WorldSet(teamName, stored.getOverworld(), stored.getNether(), stored.getEnd(), seed);
                 team.setWorldSet(worldSet);
             }
 
             // 状態
-            String stateStr = gameData.getString(path + ".state", "WAITING");
             try {
-                team.setState(GameState.valueOf(stateStr));
-            } catch (IllegalArgumentException e) {
+                team.setState(GameState.valueOf(stored.getState()));
+            } catch (IllegalArgumentException | NullPointerException e) {
                 team.setState(GameState.WAITING);
             }
 
-            team.setCompletionTime(gameData.getLong(path + ".completion-time", -1));
+            team.setCompletionTime(stored.getCompletionTime());
+            team.setCompletionTick(stored.getCompletionTick());
+            team.setCompletionIgtTicks(stored.getCompletionIgtTicks());
+            // ナノ秒が記録されていない古いデータはミリ秒から換算
+            if (stored.getCompletionNanos() >= 0 || stored.getCompletionTime() < 0) {
+                team.setCompletionNanos(stored.getCompletionNanos());
+            } else {
+                team.setCompletionNanos(stored.getCompletionTime() * 1_000_000L);
+            }
+
+            // スプリット
+            for (SplitData split : stored.getSplits()) {
+                team.getSplits().record(split.key(), split.elapsedNanos(), split.igtTicks());
+            }
 
             // チームカラー
-            team.setColor(gameData.getString(path + ".color", null));
+            team.setColor(stored.getColor());
 
             teams.put(teamName, team);
         }
@@ -240,7 +561,8 @@ public class ConfigManager {
      * チームデータを削除
      */
     public void deleteTeam(String teamName) {
-        gameData.set("teams." + teamName, null);
+        gameData.removeTeam(teamName);
+        record(JournalEvent.teamDeleted(teamName));
         saveGameData();
     }
 
@@ -248,10 +570,8 @@ public class ConfigManager {
      * 全ゲームデータをクリア
      */
     public void clearAllGameData() {
-        gameData.set("current-seed", null);
-        gameData.set("game-state", "WAITING");
-        gameData.set("game-start-time", null);
-        gameData.set("teams", null);
+        gameData.clear();
+        record(JournalEvent.cleared());
         saveGameData();
     }
 
@@ -260,7 +580,7 @@ public class ConfigManager {
      * @return 開始時刻（ミリ秒）、未設定の場合は0
      */
     public long getGameStartTime() {
-        return gameData.getLong("game-start-time", 0);
+        return gameData.getGameStartTime();
     }
 
     /**
@@ -268,11 +588,28 @@ public class ConfigManager {
      * @param startTime 開始時刻（ミリ秒）、0でクリア
      */
     public void setGameStartTime(long startTime) {
-        if (startTime <= 0) {
-            gameData.set("game-start-time", null);
-        } else {
-            gameData.set("game-start-time", startTime);
+        gameData.setGameStartTime(startTime);
+        record(JournalEvent.startTimeSet(startTime));
+        saveGameData();
+    }
+
+    /**
+     * ゲーム内時間（IGT）のtick数を取得（最後のチェックポイント時点の値）
+     */
+    public long getGameIgtTicks() {
+        return gameData.getGameIgtTicks();
+    }
+
+    /**
+     * ゲーム内時間（IGT）のtick数を設定
+     * @param igtTicks tick数、0でクリア
+     */
+    public void setGameIgtTicks(long igtTicks) {
+        if (gameData.getGameIgtTicks() == igtTicks) {
+            return;
         }
+        gameData.setGameIgtTicks(igtTicks);
+        record(JournalEvent.igtTicksSet(igtTicks));
         saveGameData();
     }
 
@@ -290,6 +627,73 @@ public class ConfigManager {
         return generateStructures;
     }
 
+    public int getMaxConcurrentWorldCreations() {
+        return maxConcurrentWorldCreations;
+    }
+
+    public int getWorldCreationInterval() {
+        return worldCreationInterval;
+    }
+
+    public boolean isWorldTemplateEnabled() {
+        return worldTemplateEnabled;
+    }
+
+    /**
+     * テンプレートキャッシュの容量の上限（MB単位、0以下は無制限）
+     */
+    public int getTemplateCacheBudgetMb() {
+        return templateCacheBudgetMb;
+    }
+
+    public int getWorldPoolSize() {
+        return worldPoolSize;
+    }
+
+    public int getPregenerateRadius() {
+        return pregenerateRadius;
+    }
+
+    public int getPregenerateChunksPerTick() {
+        return pregenerateChunksPerTick;
+    }
+
+    public boolean isLazyLoadDimensions() {
+        return lazyLoadDimensions;
+    }
+
+    public int getHibernateIdleSeconds() {
+        return hibernateIdleSeconds;
+    }
+
+    public boolean isAdaptiveDistanceEnabled() {
+        return adaptiveDistanceEnabled;
+    }
+
+    public int getAdaptiveDistanceInterval() {
+        return adaptiveDistanceInterval;
+    }
+
+    public double getAdaptiveDistanceMsptHigh() {
+        return adaptiveDistanceMsptHigh;
+    }
+
+    public double getAdaptiveDistanceMsptLow() {
+        return adaptiveDistanceMsptLow;
+    }
+
+    public int getAdaptiveDistanceMinView() {
+        return adaptiveDistanceMinView;
+    }
+
+    public int getAdaptiveDistanceMinSimulation() {
+        return adaptiveDistanceMinSimulation;
+    }
+
+    public int getResourceSampleInterval() {
+        return resourceSampleInterval;
+    }
+
     public int getMaxTeamMembers() {
         return maxTeamMembers;
     }
@@ -310,6 +714,10 @@ public class ConfigManager {
         return showTitleOnStart;
     }
 
+    public int getStartTeleportsPerTick() {
+        return startTeleportsPerTick;
+    }
+
     public int getTimeUpdateInterval() {
         return timeUpdateInterval;
     }
@@ -318,6 +726,39 @@ public class ConfigManager {
         return showActionbar;
     }
 
+    /**
+     * タイマーをアクションバーの代わりにチームごとのBossBarで表示するか
+     */
+    public boolean isBossBarEnabled() {
+        return bossBarEnabled;
+    }
+
+    /**
+     * BossBarの進行度にスプリットの達成率を表示するか
+     */
+    public boolean isBossBarSplitProgress() {
+        return bossBarSplitProgress;
+    }
+
+    public TimeFormat getTimeFormat() {
+        return timeFormat;
+    }
+
+    public boolean isShowIgt() {
+        return showIgt;
+    }
+
+    /**
+     * 順位をゲーム内時間（IGT）で決めるか
+     */
+    public boolean isRankByIgt() {
+        return rankByIgt;
+    }
+
+    public int getSaveInterval() {
+        return saveInterval;
+    }
+
     // ========== チームカラー設定 ==========
 
     public boolean isTeamColorsEnabled() {
@@ -341,4 +782,14 @@ public class ConfigManager {
     public List<String> getCompletionAdvancements() {
         return completionAdvancements;
     }
+
+    // ========== スプリット設定 ==========
+
+    public boolean isSplitsEnabled() {
+        return splitsEnabled;
+    }
+
+    public List<String> getSplitAdvancements() {
+        return splitAdvancements;
+    }
 }
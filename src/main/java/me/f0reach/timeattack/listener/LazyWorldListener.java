@@ -0,0 +1,41 @@
+package me.f0reach.timeattack.listener;
+
+import me.f0reach.timeattack.PluginMain;
+import me.f0reach.timeattack.model.WorldSet;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerPortalEvent;
+
+/**
+ * ポータルに入ったときに、移動先のチームのワールドがアンロードされていれば読み込む
+ * Multiverse-NetherPortals が移動先を決める前に読み込むため、最も早い優先度で処理する
+ */
+public class LazyWorldListener implements Listener {
+    private final PluginMain plugin;
+
+    public LazyWorldListener(PluginMain plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerPortal(PlayerPortalEvent event) {
+        World from = event.getFrom().getWorld();
+        WorldSet worldSet = plugin.getWorldSetManager().getWorldSetByWorld(from);
+        if (worldSet == null) {
+            return;
+        }
+
+        World.Environment target = switch (event.getCause()) {
+            case NETHER_PORTAL -> from.getEnvironment() == World.Environment.NETHER
+                    ? World.Environment.NORMAL : World.Environment.NETHER;
+            case END_PORTAL -> from.getEnvironment() == World.Environment.THE_END
+                    ? World.Environment.NORMAL : World.Environment.THE_END;
+            default -> null;
+        };
+        if (target != null) {
+            plugin.getWorldSetManager().loadWorld(worldSet, target);
+        }
+    }
+}
@@ -24,6 +24,9 @@ public class PlayerJoinListener implements Listener {
     public void onPlayerJoin(PlayerJoinEvent event) {
         Player player = event.getPlayer();
 
+        // オンラインメンバーの索引に登録
+        plugin.getTeamManager().playerJoined(player);
+
         // 既にチームに所属しているか確認
         Team currentTeam = plugin.getTeamManager().getPlayerTeam(player.getUniqueId());
         if (currentTeam != null) {
@@ -35,6 +38,13 @@ public class PlayerJoinListener implements Listener {
                 plugin.getScoreboardTeamManager().addPlayerToScoreboardTeam(player, currentTeam);
             }
 
+            // 開始時のテレポート中の場合、他のプレイヤーと一緒にテレポート・スタートさせる
+            if (currentTeam.hasWorldSet()
+                    && plugin.getStartTeleporter().join(player, currentTeam.getWorldSet())) {
+                MessageUtil.sendInfo(player, "まもなくゲームが開始されます。全員の移動が終わるまでお待ちください");
+                return;
+            }
+
             // ゲームが進行中の場合、チームのワールドにテレポート
             if (plugin.getGameManager().getGameState() == GameState.RUNNING &&
                 currentTeam.getState() == GameState.RUNNING &&
@@ -22,6 +22,9 @@ public class PlayerQuitListener implements Listener {
     public void onPlayerQuit(PlayerQuitEvent event) {
         Player player = event.getPlayer();
 
+        // オンラインメンバーの索引から外す
+        plugin.getTeamManager().playerQuit(player);
+
         // チームに所属しているか確認
         Team team = plugin.getTeamManager().getPlayerTeam(player.getUniqueId());
         if (team == null) {
@@ -0,0 +1,58 @@
+package me.f0reach.timeattack.listener;
+
+import me.f0reach.timeattack.PluginMain;
+import org.bukkit.block.Block;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.world.SpawnChangeEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+/**
+ * スポーン付近のブロック変更やスポーンの移動で、安全なスポーン位置のキャッシュを破棄する
+ */
+public class SafeSpawnListener implements Listener {
+    private final PluginMain plugin;
+
+    public SafeSpawnListener(PluginMain plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        plugin.getSafeSpawnCache().onBlockChanged(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        plugin.getSafeSpawnCache().onBlockChanged(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        for (Block block : event.blockList()) {
+            plugin.getSafeSpawnCache().onBlockChanged(block);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        for (Block block : event.blockList()) {
+            plugin.getSafeSpawnCache().onBlockChanged(block);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onSpawnChange(SpawnChangeEvent event) {
+        plugin.getSafeSpawnCache().invalidate(event.getWorld());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        plugin.getSafeSpawnCache().invalidate(event.getWorld());
+    }
+}
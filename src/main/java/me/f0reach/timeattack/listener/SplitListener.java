@@ -0,0 +1,29 @@
+package me.f0reach.timeattack.listener;
+
+import me.f0reach.timeattack.PluginMain;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerAdvancementDoneEvent;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+
+/**
+ * スプリット（途中経過）の記録に使うイベントを受け取るリスナー
+ */
+public class SplitListener implements Listener {
+    private final PluginMain plugin;
+
+    public SplitListener(PluginMain plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChangedWorld(PlayerChangedWorldEvent event) {
+        plugin.getSplitManager().onWorldChanged(event.getPlayer(), event.getPlayer().getWorld());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAdvancementDone(PlayerAdvancementDoneEvent event) {
+        plugin.getSplitManager().onAdvancementDone(event.getPlayer(), event.getAdvancement());
+    }
+}
@@ -0,0 +1,41 @@
+package me.f0reach.timeattack.listener;
+
+import me.f0reach.timeattack.PluginMain;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+
+/**
+ * ゲーム開始時のテレポート中、スタート待ちのプレイヤーを停止させる
+ */
+public class StartFreezeListener implements Listener {
+    private final PluginMain plugin;
+
+    public StartFreezeListener(PluginMain plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        if (!event.hasChangedPosition() || !plugin.getStartTeleporter().isFrozen(event.getPlayer().getUniqueId())) {
+            return;
+        }
+
+        // 視点の移動のみ許可する
+        Location to = event.getFrom().clone();
+        to.setYaw(event.getTo().getYaw());
+        to.setPitch(event.getTo().getPitch());
+        event.setTo(to);
+    }
+
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onDamage(EntityDamageEvent event) {
+        if (event.getEntity() instanceof Player player && plugin.getStartTeleporter().isFrozen(player.getUniqueId())) {
+            event.setCancelled(true);
+        }
+    }
+}
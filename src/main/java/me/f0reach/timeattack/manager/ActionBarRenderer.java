@@ -0,0 +1,93 @@
+package me.f0reach.timeattack.manager;
+
+import me.f0reach.timeattack.model.Team;
+import me.f0reach.timeattack.util.TimeUtil;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.Bukkit;
+
+import java.util.Collection;
+
+/**
+ * タイマーのアクションバー表示を差分送信するクラス
+ * 表示内容（秒単位）が変わった時と、表示が消えないための再送期限に達した時のみ送信する
+ * 表示内容ごとにComponentを1つだけ作り、全チームで共有する
+ */
+public class ActionBarRenderer {
+    // アクションバーは約3秒で消えるため、それより短い間隔で再送する（tick単位）
+    static final int KEEP_ALIVE_TICKS = 40;
+
+    private long lastSecond = -1;
+    private long lastIgtSecond = -1;
+    private int lastSentTick;
+    private Component current;
+    private final StringBuilder text = new StringBuilder(32);
+
+    private long packetsSent;
+    private long packetsSaved;
+
+    /**
+     * アクションバーを更新
+     * @param teams      送信先のチーム
+     * @param elapsed    経過時間（ミリ秒）
+     * @param igtElapsed IGTの経過時間（ミリ秒）、表示しない場合は-1
+     */
+    public void render(Collection<Team> teams, long elapsed, long igtElapsed) {
+        long second = elapsed / 1000;
+        long igtSecond = igtElapsed < 0 ? -1 : igtElapsed / 1000;
+        int tick = Bukkit.getCurrentTick();
+
+        boolean changed = current == null || second != lastSecond || igtSecond != lastIgtSecond;
+        if (!changed && tick - lastSentTick < KEEP_ALIVE_TICKS) {
+            for (Team team : teams) {
+                packetsSaved += team.getOnlineMembers().size();
+            }
+            return;
+        }
+
+        if (changed) {
+            current = build(elapsed, igtElapsed);
+            lastSecond = second;
+            lastIgtSecond = igtSecond;
+        }
+        lastSentTick = tick;
+
+        for (Team team : teams) {
+            team.audience().sendActionBar(current);
+            packetsSent += team.getOnlineMembers().size();
+        }
+    }
+
+    /**
+     * 表示状態をリセット（次回の更新で必ず送信する）
+     */
+    public void invalidate() {
+        current = null;
+    }
+
+    /**
+     * 送信したアクションバーのパケット数
+     */
+    public long getPacketsSent() {
+        return packetsSent;
+    }
+
+    /**
+     * 表示が変わらないため送信を省略したパケット数
+     */
+    public long getPacketsSaved() {
+        return packetsSaved;
+    }
+
+    private Component build(long elapsed, long igtElapsed) {
+        text.setLength(0);
+        TimeUtil.appendTimeShort(text.append("⏱ "), elapsed);
+        Component component = Component.text(text.toString()).color(NamedTextColor.GREEN);
+        if (igtElapsed >= 0) {
+            text.setLength(0);
+            TimeUtil.appendTimeShort(text.append(" (IGT "), igtElapsed).append(')');
+            component = component.append(Component.text(text.toString()).color(NamedTextColor.GRAY));
+        }
+        return component;
+    }
+}
@@ -0,0 +1,213 @@
+package me.f0reach.timeattack.manager;
+
+import me.f0reach.timeattack.PluginMain;
+import me.f0reach.timeattack.model.WorldSet;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+
+/**
+ * ワールドセットのスポーン周辺のチャンクを事前に生成するクラス
+ * Paperの非同期チャンクAPIを使い、1tickあたりの要求数を制限して生成する
+ * ゲーム開始時に全チームが一斉にスポーン周辺を生成して負荷が集中するのを防ぐ
+ */
+public class ChunkPregenerator {
+    private final PluginMain plugin;
+    private final Map<UUID, Progress> progress; // worldUID -> 進捗
+    private final Deque<Progress> queue;
+    private int inFlight;
+    private BukkitTask task;
+
+    public ChunkPregenerator(PluginMain plugin) {
+        this.plugin = plugin;
+        this.progress = new HashMap<>();
+        this.queue = new ArrayDeque<>();
+    }
+
+    /**
+     * ワールドセットのオーバーワールドのスポーン周辺の生成を予約（予約済みの場合は何もしない）
+     */
+    public void pregenerate(WorldSet worldSet) {
+        int radius = plugin.getConfigManager().getPregenerateRadius();
+        World world = worldSet.getOverworld();
+        if (radius <= 0 || world == null || progress.containsKey(world.getUID())) {
+            return;
+        }
+
+        Location spawn = world.getSpawnLocation();
+        Progress entry = new Progress(world.getUID(), world.getName(),
+                spawn.getBlockX() >> 4, spawn.getBlockZ() >> 4, radius);
+        progress.put(world.getUID(), entry);
+        queue.add(entry);
+
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }
+    }
+
+    /**
+     * ワールドセットのスポーン周辺の生成が完了しているか確認（事前生成が無効の場合は常にtrue）
+     */
+    public boolean isComplete(WorldSet worldSet) {
+        if (plugin.getConfigManager().getPregenerateRadius() <= 0) {
+            return true;
+        }
+        Progress entry = getProgress(worldSet);
+        return entry != null && entry.isDone();
+    }
+
+    /**
+     * ワールドセットの進捗を取得（未予約の場合はnull）
+     */
+    public Progress getProgress(WorldSet worldSet) {
+        World world = worldSet.getOverworld();
+        return world != null ? progress.get(world.getUID()) : null;
+    }
+
+    /**
+     * 生成待ち・生成中のチャンク数の合計 [完了数, 総数]
+     */
+    public int[] getPendingTotals() {
+        int completed = 0;
+        int total = 0;
+        for (Progress entry : queue) {
+            completed += entry.getCompleted();
+            total += entry.getTotal();
+        }
+        return new int[]{completed, total};
+    }
+
+    /**
+     * 生成を停止（プラグイン無効化時）
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        queue.clear();
+        progress.values().removeIf(entry -> !entry.isDone());
+    }
+
+    /**
+     * 同時要求数が上限に達するまでチャンクの読み込み・生成を要求する
+     */
+    private void tick() {
+        int budget = Math.max(1, plugin.getConfigManager().getPregenerateChunksPerTick());
+
+        Iterator<Progress> it = queue.iterator();
+        while (it.hasNext() && inFlight < budget) {
+            Progress entry = it.next();
+            World world = Bukkit.getWorld(entry.worldId);
+            if (world == null) {
+                // 生成中にワールドが削除・アンロードされた
+                it.remove();
+                progress.remove(entry.worldId);
+                continue;
+            }
+
+            while (inFlight < budget && entry.hasNextRequest()) {
+                int index = entry.nextRequest++;
+                inFlight++;
+                world.getChunkAtAsync(entry.chunkX(index), entry.chunkZ(index), true).whenComplete((chunk, error) -> {
+                    inFlight--;
+                    entry.completed++;
+                    if (error != null) {
+                        plugin.getLogger().warning("Failed to pre-generate chunk in " + entry.worldName + ": " + error);
+                    }
+                });
+            }
+        }
+
+        queue.removeIf(entry -> {
+            if (!entry.isDone()) {
+                return false;
+            }
+            plugin.getLogger().info("Pre-generated " + entry.getTotal() + " spawn chunks for " + entry.worldName);
+            return true;
+        });
+
+        if (queue.isEmpty() && inFlight == 0) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * ワールドごとの生成の進捗（スポーンに近いチャンクから順に生成する）
+     */
+    public static class Progress {
+        private final UUID worldId;
+        private final String worldName;
+        private final int[] offsets; // [dx0, dz0, dx1, dz1, ...]
+        private final int centerX;
+        private final int centerZ;
+        private int nextRequest;
+        private int completed;
+
+        Progress(UUID worldId, String worldName, int centerX, int centerZ, int radius) {
+            this.worldId = worldId;
+            this.worldName = worldName;
+            this.centerX = centerX;
+            this.centerZ = centerZ;
+            this.offsets = ringOffsets(radius);
+        }
+
+        public String getWorldName() {
+            return worldName;
+        }
+
+        public int getCompleted() {
+            return completed;
+        }
+
+        public int getTotal() {
+            return offsets.length / 2;
+        }
+
+        public boolean isDone() {
+            return completed >= getTotal();
+        }
+
+        boolean hasNextRequest() {
+            return nextRequest < getTotal();
+        }
+
+        int chunkX(int index) {
+            return centerX + offsets[index * 2];
+        }
+
+        int chunkZ(int index) {
+            return centerZ + offsets[index * 2 + 1];
+        }
+
+        /**
+         * 中心から外側へ1周ずつ並べたオフセット
+         */
+        private static int[] ringOffsets(int radius) {
+            int side = radius * 2 + 1;
+            int[] offsets = new int[side * side * 2];
+            int i = 0;
+            offsets[i++] = 0;
+            offsets[i++] = 0;
+            for (int ring = 1; ring <= radius; ring++) {
+                for (int d = -ring; d <= ring; d++) {
+                    offsets[i++] = d;
+                    offsets[i++] = -ring;
+                    offsets[i++] = d;
+                    offsets[i++] = ring;
+                }
+                for (int d = -ring + 1; d <= ring - 1; d++) {
+                    offsets[i++] = -ring;
+                    offsets[i++] = d;
+                    offsets[i++] = ring;
+                    offsets[i++] = d;
+                }
+            }
+            return offsets;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package me.f0reach.timeattack.manager;
+
+import me.f0reach.timeattack.PluginMain;
+import me.f0reach.timeattack.config.ConfigManager;
+import me.f0reach.timeattack.model.Team;
+import me.f0reach.timeattack.model.WorldSet;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+
+/**
+ * サーバーの負荷に応じてチームのワールドの描画距離・シミュレーション距離を調整するクラス
+ * MSPTが上限を超えている間は負荷の大きいワールドから1段階ずつ下げ、下限を下回ったら下げた分を1段階ずつ戻す
+ * 調整は全てログに記録する（チーム間の公平性を後から確認できるようにする）
+ */
+public class DistanceController {
+    private final PluginMain plugin;
+    private final Map<UUID, Baseline> baselines; // worldUID -> 調整前の距離（調整中のワールドのみ）
+    private BukkitTask task;
+
+    public DistanceController(PluginMain plugin) {
+        this.plugin = plugin;
+        this.baselines = new HashMap<>();
+    }
+
+    /**
+     * 調整を開始（無効の場合は何もしない）
+     */
+    public void start() {
+        stop();
+        ConfigManager config = plugin.getConfigManager();
+        if (!config.isAdaptiveDistanceEnabled()) {
+            return;
+        }
+        long interval = Math.max(20, config.getAdaptiveDistanceInterval());
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::check, interval, interval);
+    }
+
+    /**
+     * 調整を停止し、下げた距離を全て元に戻す
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+
+        for (Map.Entry<UUID, Baseline> entry : baselines.entrySet()) {
+            World world = Bukkit.getWorld(entry.getKey());
+            if (world == null) {
+                continue;
+            }
+            Baseline baseline = entry.getValue();
+            if (world.getViewDistance() != baseline.viewDistance()) {
+                setViewDistance(world, baseline.viewDistance(), "restore on stop");
+            }
+            if (world.getSimulationDistance() != baseline.simulationDistance()) {
+                setSimulationDistance(world, baseline.simulationDistance(), "restore on stop");
+            }
+        }
+        baselines.clear();
+    }
+
+    /**
+     * 距離を下げているワールドの数
+     */
+    public int getAdjustedWorldCount() {
+        return baselines.size();
+    }
+
+    private void check() {
+        // アンロードされたワールドは再読み込み時に既定の距離に戻る
+        baselines.keySet().removeIf(uid -> Bukkit.getWorld(uid) == null);
+
+        ConfigManager config = plugin.getConfigManager();
+        double mspt = Bukkit.getAverageTickTime();
+        if (mspt >= config.getAdaptiveDistanceMsptHigh()) {
+            lower(mspt);
+        } else if (mspt <= config.getAdaptiveDistanceMsptLow() && !baselines.isEmpty()) {
+            raise(mspt);
+        }
+    }
+
+    /**
+     * 下げられるワールドのうち負荷（読み込み済みチャンク数＋エンティティ数）が最も大きいワールドを1段階下げる
+     * シミュレーション距離が描画距離以上の場合は先にシミュレーション距離を下げ、それ以外は描画距離を先に下げる
+     */
+    private void lower(double mspt) {
+        ConfigManager config = plugin.getConfigManager();
+        int minView = Math.max(2, config.getAdaptiveDistanceMinView());
+        int minSimulation = Math.max(2, config.getAdaptiveDistanceMinSimulation());
+
+        World target = null;
+        int targetCost = -1;
+        for (World world : getTeamWorlds()) {
+            if (world.getViewDistance() <= minView && world.getSimulationDistance() <= minSimulation) {
+                continue;
+            }
+            int cost = getCost(world);
+            if (cost > targetCost) {
+                target = world;
+                targetCost = cost;
+            }
+        }
+        if (target == null) {
+            return;
+        }
+
+        int view = target.getViewDistance();
+        int simulation = target.getSimulationDistance();
+        baselines.putIfAbsent(target.getUID(), new Baseline(view, simulation));
+        String reason = describeLoad(target, mspt);
+        if (simulation > minSimulation && (simulation >= view || view <= minView)) {
+            setSimulationDistance(target, simulation - 1, reason);
+        } else {
+            setViewDistance(target, view - 1, reason);
+        }
+    }
+
+    /**
+     * 下げた段階数が最も多いワールドを1段階戻す（下げたときと逆の順に戻す）
+     */
+    private void raise(double mspt) {
+        World target = null;
+        int targetDeficit = 0;
+        for (Map.Entry<UUID, Baseline> entry : baselines.entrySet()) {
+            World world = Bukkit.getWorld(entry.getKey());
+            if (world == null) {
+                continue;
+            }
+            Baseline baseline = entry.getValue();
+            int deficit = (baseline.viewDistance() - world.getViewDistance())
+                    + (baseline.simulationDistance() - world.getSimulationDistance());
+            if (deficit > targetDeficit) {
+                target = world;
+                targetDeficit = deficit;
+            }
+        }
+        if (target == null) {
+            baselines.clear();
+            return;
+        }
+
+        Baseline baseline = baselines.get(target.getUID());
+        int view = target.getViewDistance();
+        int simulation = target.getSimulationDistance();
+        String reason = describeLoad(target, mspt);
+        if (view < baseline.viewDistance() && (view <= simulation || simulation >= baseline.simulationDistance())) {
+            setViewDistance(target, view + 1, reason);
+        } else {
+            setSimulationDistance(target, simulation + 1, reason);
+        }
+
+        if (target.getViewDistance() >= baseline.viewDistance()
+                && target.getSimulationDistance() >= baseline.simulationDistance()) {
+            baselines.remove(target.getUID());
+        }
+    }
+
+    private List<World> getTeamWorlds() {
+        List<World> worlds = new ArrayList<>();
+        for (Team team : plugin.getTeamManager().getAllTeams()) {
+            WorldSet worldSet = team.getWorldSet();
+            if (worldSet == null) {
+                continue;
+            }
+            for (World.Environment environment : WorldSetManager.CREATION_ORDER) {
+                World world = worldSet.getWorld(environment);
+                if (world != null) {
+                    worlds.add(world);
+                }
+            }
+        }
+        return worlds;
+    }
+
+    private static int getCost(World world) {
+        return world.getChunkCount() + world.getEntityCount();
+    }
+
+    private static String describeLoad(World world, double mspt) {
+        return String.format("MSPT %.1f, chunks %d, entities %d", mspt, world.getChunkCount(), world.getEntityCount());
+    }
+
+    private void setViewDistance(World world, int distance, String reason) {
+        int previous = world.getViewDistance();
+        world.setViewDistance(distance);
+        plugin.getLogger().info("View distance of " + describeWorld(world) + ": " + previous + " -> " + distance
+                + " (" + reason + ")");
+    }
+
+    private void setSimulationDistance(World world, int distance, String reason) {
+        int previous = world.getSimulationDistance();
+        world.setSimulationDistance(distance);
+        plugin.getLogger().info("Simulation distance of " + describeWorld(world) + ": " + previous + " -> " + distance
+                + " (" + reason + ")");
+    }
+
+    private String describeWorld(World world) {
+        WorldSet worldSet = plugin.getWorldSetManager().getWorldSetByWorld(world);
+        return worldSet != null ? world.getName() + " [team " + worldSet.getTeamName() + "]" : world.getName();
+    }
+
+    private record Baseline(int viewDistance, int simulationDistance) {
+    }
+}
@@ -1,6 +1,7 @@
 package me.f0reach.timeattack.manager;
 
 import me.f0reach.timeattack.PluginMain;
+import me.f0reach.timeattack.model.CompletionRecord;
 import me.f0reach.timeattack.model.GameState;
 import me.f0reach.timeattack.model.Team;
 import me.f0reach.timeattack.model.WorldSet;
@@ -13,8 +14,8 @@ import org.bukkit.scheduler.BukkitTask;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.UUID;
 
 /**
  * タイムアタックのゲームフローを管理するクラス
@@ -36,6 +37,15 @@ public class GameManager {
      */
     public void loadState() {
         this.gameState = plugin.getConfigManager().getGlobalGameState();
+
+        // 完了済みチームから完了記録を復元
+        completionRecords.clear();
+        for (Team team : plugin.getTeamManager().getAllTeams()) {
+            if (team.isCompleted()) {
+                completionRecords.add(CompletionRecord.of(team, 0));
+            }
+        }
+        rankCompletionRecords();
     }
 
     /**
@@ -79,6 +89,27 @@ public class GameManager {
             }
         }
 
+        // スポーン周辺のチャンクが生成されるまで開始しない
+        // 生成はワールドセットの作成・割り当て時と読み込み時に予約される（ここでは進捗の確認のみ）
+        ChunkPregenerator pregenerator = plugin.getChunkPregenerator();
+        int completed = 0;
+        int total = 0;
+        boolean ready = true;
+        for (Team team : teams) {
+            if (pregenerator.isComplete(team.getWorldSet())) {
+                continue;
+            }
+            ready = false;
+            ChunkPregenerator.Progress progress = pregenerator.getProgress(team.getWorldSet());
+            if (progress != null) {
+                completed += progress.getCompleted();
+                total += progress.getTotal();
+            }
+        }
+        if (!ready) {
+            return "スポーン周辺のチャンクを生成中です (" + completed + "/" + total + ")。完了までお待ちください";
+        }
+
         return null; // 開始可能
     }
 
@@ -124,12 +155,7 @@ public class GameManager {
                 if (remaining[0] <= 3) {
                     // 全プレイヤーにタイトル表示
                     for (Team team : plugin.getTeamManager().getAllTeams()) {
-                        for (UUID memberId : team.getMembers()) {
-                            Player player = Bukkit.getPlayer(memberId);
-                            if (player != null) {
-                                MessageUtil.showTitle(player, String.valueOf(remaining[0]), "準備してください！");
-                            }
-                        }
+                        MessageUtil.showTitle(team.audience(), String.valueOf(remaining[0]), "準備してください！");
                     }
                 }
             }
@@ -138,16 +164,34 @@ public class GameManager {
 
     /**
      * ゲームを実際に開始
+     * 状態の保存はタイマーの開始時に行う（テレポート中にサーバーが停止した場合は開始前の状態に戻る）
      */
     private void executeGameStart() {
-        setGameState(GameState.RUNNING);
+        gameState = GameState.RUNNING;
         completionRecords.clear();
 
-        // 全チームのプレイヤーをテレポート
-        for (Team team : plugin.getTeamManager().getAllTeams()) {
-            team.setState(GameState.RUNNING);
-            teleportTeamToSpawn(team);
-            plugin.getConfigManager().saveTeam(team);
+        // スポーン周辺を読み込んでから少しずつテレポートし、全員の移動後に同時にスタートする
+        MessageUtil.broadcast("チームのワールドへ移動中...");
+        plugin.getStartTeleporter().start(plugin.getTeamManager().getAllTeams(), this::beginRun);
+    }
+
+    /**
+     * 全員のテレポート完了後に状態を保存してタイマーを開始
+     */
+    private void beginRun() {
+        if (gameState != GameState.RUNNING) {
+            return;
+        }
+        setGameState(GameState.RUNNING);
+
+        // 全チームの状態を更新（保存は1回にまとめる）
+        TeamManager teamManager = plugin.getTeamManager();
+        try (TeamTransaction tx = teamManager.beginTransaction()) {
+            for (Team team : teamManager.getAllTeams()) {
+                team.setState(GameState.RUNNING);
+                teamManager.saveTeam(team);
+            }
+            tx.commit();
         }
 
         // タイマー開始（全チーム共通）
@@ -158,12 +202,7 @@ public class GameManager {
 
         if (plugin.getConfigManager().isShowTitleOnStart()) {
             for (Team team : plugin.getTeamManager().getAllTeams()) {
-                for (UUID memberId : team.getMembers()) {
-                    Player player = Bukkit.getPlayer(memberId);
-                    if (player != null) {
-                        MessageUtil.showTitle(player, "GO!", "目指せ最速クリア！");
-                    }
-                }
+                MessageUtil.showTitle(team.audience(), "GO!", "目指せ最速クリア！");
             }
         }
 
@@ -179,11 +218,7 @@ public class GameManager {
             return;
         }
 
-        for (UUID memberId : team.getMembers()) {
-            Player player = Bukkit.getPlayer(memberId);
-            if (player == null) {
-                continue;
-            }
+        for (Player player : team.getOnlineMembers()) {
             plugin.getWorldSetManager().teleportToWorldSetSpawn(worldSet, World.Environment.NORMAL, player);
         }
     }
@@ -224,19 +259,27 @@ public class GameManager {
         }
 
         // 完了時間を記録（共通タイマーから計算）
-        long completionTime = plugin.getTimeManager().recordCompletion(teamName);
+        CompletionRecord measured = plugin.getTimeManager().recordCompletion(teamName);
+        long completionTime = measured.time();
 
         // チーム状態を更新
         team.setState(GameState.COMPLETED);
         team.setCompletionTime(completionTime);
-        plugin.getConfigManager().saveTeam(team);
+        team.setCompletionNanos(measured.elapsedNanos());
+        team.setCompletionTick(measured.tick());
+        team.setCompletionIgtTicks(measured.igtTicks());
+        plugin.getTeamManager().saveTeam(team);
 
-        // 完了記録を追加
-        int rank = completionRecords.size() + 1;
-        completionRecords.add(new CompletionRecord(teamName, completionTime, rank));
+        // 完了記録を追加（同時刻でも決定的な順位になるよう並べ替える）
+        completionRecords.add(measured);
+        rankCompletionRecords();
+        int rank = getRank(teamName);
 
         // 完了アナウンス
         announceCompletion(team, completionTime, rank);
+        if (plugin.getConfigManager().isShowIgt() || plugin.getConfigManager().isRankByIgt()) {
+            MessageUtil.broadcast("IGT: " + TimeUtil.formatTime(measured.igtMillis()));
+        }
 
         // 全チーム完了チェック
         checkAllTeamsCompleted();
@@ -245,6 +288,37 @@ public class GameManager {
         return true;
     }
 
+    /**
+     * 完了記録を完了順に並べ替えて順位を振り直す（設定によりIGT順）
+     */
+    private void rankCompletionRecords() {
+        completionRecords.sort(plugin.getConfigManager().isRankByIgt()
+                ? CompletionRecord.IGT_ORDER : CompletionRecord.ORDER);
+        for (int i = 0; i < completionRecords.size(); i++) {
+            completionRecords.set(i, completionRecords.get(i).withRank(i + 1));
+        }
+    }
+
+    /**
+     * チームの順位を取得
+     * @return 順位、未完了の場合は-1
+     */
+    public int getRank(String teamName) {
+        for (CompletionRecord record : completionRecords) {
+            if (record.teamName().equals(teamName)) {
+                return record.rank();
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 完了記録を順位順で取得
+     */
+    public List<CompletionRecord> getCompletionRecords() {
+        return Collections.unmodifiableList(completionRecords);
+    }
+
     /**
      * 完了をアナウンス
      */
@@ -260,13 +334,7 @@ public class GameManager {
         MessageUtil.broadcast(rankStr + " でゴール！");
 
         // チームメンバーにタイトル表示
-        String timeStr = TimeUtil.formatTime(time);
-        for (UUID memberId : team.getMembers()) {
-            Player player = Bukkit.getPlayer(memberId);
-            if (player != null) {
-                MessageUtil.showTitle(player, "クリア！", timeStr);
-            }
-        }
+        MessageUtil.showTitle(team.audience(), "クリア！", TimeUtil.formatTime(time));
     }
 
     /**
@@ -305,13 +373,14 @@ public class GameManager {
 
         MessageUtil.broadcast("=== 最終結果 ===");
         for (CompletionRecord record : completionRecords) {
-            String rankStr = switch (record.rank) {
+            String rankStr = switch (record.rank()) {
                 case 1 -> "§6§l1位";
                 case 2 -> "§72位";
                 case 3 -> "§c3位";
-                default -> record.rank + "位";
+                default -> record.rank() + "位";
             };
-            MessageUtil.broadcast(rankStr + " " + record.teamName + " - " + TimeUtil.formatTime(record.time));
+            String igtStr = record.igtTicks() >= 0 ? " §7(IGT " + TimeUtil.formatTime(record.igtMillis()) + ")" : "";
+            MessageUtil.broadcast(rankStr + " " + record.teamName() + " - " + TimeUtil.formatTime(record.time()) + igtStr);
         }
     }
 
@@ -324,6 +393,7 @@ public class GameManager {
             countdownTask.cancel();
             countdownTask = null;
         }
+        plugin.getStartTeleporter().cancel();
 
         // タイマー停止とリセット
         plugin.getTimeManager().stopTimer();
@@ -374,10 +444,4 @@ public class GameManager {
             case COMPLETED -> "完了";
         };
     }
-
-    /**
-     * 完了記録を保持するレコードクラス
-     */
-    private record CompletionRecord(String teamName, long time, int rank) {
-    }
 }
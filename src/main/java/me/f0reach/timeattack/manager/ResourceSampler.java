@@ -0,0 +1,238 @@
+package me.f0reach.timeattack.manager;
+
+import me.f0reach.timeattack.PluginMain;
+import me.f0reach.timeattack.model.Team;
+import me.f0reach.timeattack.model.WorldSet;
+import me.f0reach.timeattack.model.WorldSetResources;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * チームのワールドセットごとのリソース使用量を計測するクラス
+ * 1tickに1ワールドずつ順番に計測し、全ワールドを計測したら設定された間隔だけ待って次の周回を始める
+ * リージョンファイルのサイズはバックグラウンドで計測する（ワールドごとに最大1分に1回）
+ */
+public class ResourceSampler {
+    // ヒープ使用量の概算に使う1つあたりの推定サイズ（バイト）
+    private static final long CHUNK_HEAP_ESTIMATE = 64 * 1024;
+    private static final long ENTITY_HEAP_ESTIMATE = 2 * 1024;
+    private static final long TILE_ENTITY_HEAP_ESTIMATE = 1024;
+    private static final long DISK_INTERVAL_MILLIS = 60_000L;
+
+    private final PluginMain plugin;
+    private final Map<String, Sample> samples; // worldName -> 最新の計測値（他スレッドから参照されてもよい）
+    private final Map<String, Long> diskBytes; // worldName -> リージョンファイルの合計サイズ
+    private final Map<String, Long> diskMeasuredAt; // worldName -> ディスク計測の開始時刻
+    private final Deque<String> pending; // 今の周回で未計測のワールド
+    private BukkitTask task;
+    private int cooldown;
+
+    public ResourceSampler(PluginMain plugin) {
+        this.plugin = plugin;
+        this.samples = new ConcurrentHashMap<>();
+        this.diskBytes = new ConcurrentHashMap<>();
+        this.diskMeasuredAt = new HashMap<>();
+        this.pending = new ArrayDeque<>();
+    }
+
+    /**
+     * 計測を開始（間隔が0以下の場合は無効）
+     */
+    public void start() {
+        stop();
+        if (plugin.getConfigManager().getResourceSampleInterval() <= 0) {
+            return;
+        }
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        pending.clear();
+        cooldown = 0;
+    }
+
+    /**
+     * 全チームのワールドセットのリソース使用量を取得（計測済みのワールドのみ集計される）
+     *
+     * @return チーム名順のリスト
+     */
+    public List<WorldSetResources> getResources() {
+        List<WorldSetResources> result = new ArrayList<>();
+        for (Team team : plugin.getTeamManager().getAllTeams()) {
+            WorldSet worldSet = team.getWorldSet();
+            if (worldSet != null) {
+                result.add(aggregate(worldSet));
+            }
+        }
+        result.sort(Comparator.comparing(WorldSetResources::teamName));
+        return result;
+    }
+
+    /**
+     * 全チームのワールドセットのリソース使用量を指定した項目の大きい順で取得
+     */
+    public List<WorldSetResources> getResources(WorldSetResources.Metric metric) {
+        List<WorldSetResources> result = getResources();
+        result.sort(metric.descending());
+        return result;
+    }
+
+    /**
+     * 集計結果をCSVファイルに書き出す（ファイル入出力のため、バックグラウンドで呼ぶこと）
+     */
+    public static void exportCsv(List<WorldSetResources> resources, Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("team,loaded_worlds,chunks,entities,tile_entities,players,heap_bytes,disk_bytes,sampled_at");
+            writer.newLine();
+            for (WorldSetResources entry : resources) {
+                writer.write(String.join(",",
+                        "\"" + entry.teamName().replace("\"", "\"\"") + "\"",
+                        String.valueOf(entry.loadedWorlds()),
+                        String.valueOf(entry.chunks()),
+                        String.valueOf(entry.entities()),
+                        String.valueOf(entry.tileEntities()),
+                        String.valueOf(entry.players()),
+                        String.valueOf(entry.heapBytes()),
+                        String.valueOf(entry.diskBytes()),
+                        String.valueOf(entry.sampledAt())));
+                writer.newLine();
+            }
+        }
+    }
+
+    private WorldSetResources aggregate(WorldSet worldSet) {
+        int loadedWorlds = 0;
+        int chunks = 0;
+        int entities = 0;
+        int tileEntities = 0;
+        int players = 0;
+        long disk = 0;
+        long sampledAt = Long.MAX_VALUE;
+        for (World.Environment environment : WorldSetManager.CREATION_ORDER) {
+            String worldName = worldSet.getWorldName(environment);
+            Sample sample = samples.get(worldName);
+            if (sample != null) {
+                loadedWorlds += sample.loaded() ? 1 : 0;
+                chunks += sample.chunks();
+                entities += sample.entities();
+                tileEntities += sample.tileEntities();
+                players += sample.players();
+                sampledAt = Math.min(sampledAt, sample.sampledAt());
+            }
+
+            Long bytes = diskBytes.get(worldName);
+            if (bytes == null || disk < 0) {
+                disk = -1;
+            } else {
+                disk += bytes;
+            }
+        }
+
+        long heap = chunks * CHUNK_HEAP_ESTIMATE + entities * ENTITY_HEAP_ESTIMATE
+                + tileEntities * TILE_ENTITY_HEAP_ESTIMATE;
+        return new WorldSetResources(worldSet.getTeamName(), loadedWorlds, chunks, entities, tileEntities, players,
+                heap, disk, sampledAt == Long.MAX_VALUE ? 0 : sampledAt);
+    }
+
+    private void tick() {
+        if (pending.isEmpty()) {
+            if (--cooldown > 0) {
+                return;
+            }
+            cooldown = plugin.getConfigManager().getResourceSampleInterval();
+            beginCycle();
+            return;
+        }
+
+        sample(pending.poll());
+    }
+
+    /**
+     * 計測するワールドを並べ、チームのワールドでなくなったワールドの計測値を破棄する
+     */
+    private void beginCycle() {
+        Set<String> worldNames = new LinkedHashSet<>();
+        for (Team team : plugin.getTeamManager().getAllTeams()) {
+            WorldSet worldSet = team.getWorldSet();
+            if (worldSet == null) {
+                continue;
+            }
+            for (World.Environment environment : WorldSetManager.CREATION_ORDER) {
+                worldNames.add(worldSet.getWorldName(environment));
+            }
+        }
+
+        samples.keySet().retainAll(worldNames);
+        diskBytes.keySet().retainAll(worldNames);
+        diskMeasuredAt.keySet().retainAll(worldNames);
+        pending.addAll(worldNames);
+    }
+
+    private void sample(String worldName) {
+        long now = System.currentTimeMillis();
+        World world = Bukkit.getWorld(worldName);
+        if (world == null) {
+            samples.put(worldName, new Sample(false, 0, 0, 0, 0, now));
+        } else {
+            samples.put(worldName, new Sample(true, world.getChunkCount(), world.getEntityCount(),
+                    world.getTileEntityCount(), world.getPlayerCount(), now));
+        }
+
+        Long measuredAt = diskMeasuredAt.get(worldName);
+        if (measuredAt == null || now - measuredAt >= DISK_INTERVAL_MILLIS) {
+            diskMeasuredAt.put(worldName, now);
+            Path folder = Bukkit.getWorldContainer().toPath().resolve(worldName);
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> measureDisk(worldName, folder));
+        }
+    }
+
+    /**
+     * ワールドフォルダ内のリージョンファイル（.mca）の合計サイズを計測
+     */
+    private void measureDisk(String worldName, Path folder) {
+        if (!Files.isDirectory(folder)) {
+            diskBytes.put(worldName, 0L);
+            return;
+        }
+
+        long[] bytes = new long[1];
+        try {
+            Files.walkFileTree(folder, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (file.getFileName().toString().endsWith(".mca")) {
+                        bytes[0] += attrs.size();
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                    // 書き込み中に削除されたファイルなどは無視する
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            diskBytes.put(worldName, bytes[0]);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.FINE, "Failed to measure region files of " + worldName, e);
+        }
+    }
+
+    private record Sample(boolean loaded, int chunks, int entities, int tileEntities, int players, long sampledAt) {
+    }
+}
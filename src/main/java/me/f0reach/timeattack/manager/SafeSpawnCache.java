@@ -0,0 +1,208 @@
+package me.f0reach.timeattack.manager;
+
+import me.f0reach.timeattack.PluginMain;
+import org.bukkit.Bukkit;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.Tag;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ワールドごとの安全なスポーン位置のキャッシュ
+ * スポーンのチャンクを非同期に読み込み、チャンクのスナップショットから非同期に安全な位置を探す
+ * スポーン付近のブロックが変更された場合やスポーンが移動した場合は破棄して再計算する
+ */
+public class SafeSpawnCache {
+    // キャッシュを破棄するブロック変更の範囲（スポーン位置からのブロック数）
+    private static final int INVALIDATE_RANGE = 8;
+    // スポーンの高さから上下に探す範囲（天井のあるワールドのみ）
+    private static final int VERTICAL_SEARCH = 32;
+
+    private final PluginMain plugin;
+    private final Map<UUID, Entry> cache; // worldUID -> 安全な位置
+
+    public SafeSpawnCache(PluginMain plugin) {
+        this.plugin = plugin;
+        this.cache = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * ワールドの安全なスポーン位置を取得（未計算の場合は計算する、メインスレッドで完了する）
+     */
+    public CompletableFuture<Location> getSafeSpawn(World world) {
+        Entry entry = cache.get(world.getUID());
+        if (entry == null) {
+            entry = new Entry(world.getSpawnLocation(), new CompletableFuture<>());
+            cache.put(world.getUID(), entry);
+            resolve(world, entry);
+        }
+        return entry.location();
+    }
+
+    /**
+     * ワールドのキャッシュを破棄
+     */
+    public void invalidate(World world) {
+        cache.remove(world.getUID());
+    }
+
+    /**
+     * 全てのキャッシュを破棄
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * ブロックが変更された場合、スポーン付近であればキャッシュを破棄する
+     */
+    public void onBlockChanged(Block block) {
+        if (cache.isEmpty()) {
+            return;
+        }
+        Entry entry = cache.get(block.getWorld().getUID());
+        if (entry == null) {
+            return;
+        }
+
+        Location center = entry.location().isDone() && !entry.location().isCompletedExceptionally()
+                ? entry.location().join() : entry.spawn();
+        if (Math.abs(block.getX() - center.getBlockX()) <= INVALIDATE_RANGE
+                && Math.abs(block.getY() - center.getBlockY()) <= INVALIDATE_RANGE
+                && Math.abs(block.getZ() - center.getBlockZ()) <= INVALIDATE_RANGE) {
+            cache.remove(block.getWorld().getUID(), entry);
+        }
+    }
+
+    /**
+     * スポーンのチャンクを読み込み、スナップショットから非同期に安全な位置を探す
+     */
+    private void resolve(World world, Entry entry) {
+        Location spawn = entry.spawn();
+        int minY = world.getMinHeight();
+        int maxY = world.getMaxHeight();
+        boolean hasCeiling = world.hasCeiling();
+
+        world.getChunkAtAsync(spawn).whenComplete((chunk, error) -> {
+            if (error != null || chunk == null) {
+                entry.location().complete(centered(spawn));
+                return;
+            }
+
+            // 地表から探すため高さマップを含める
+            ChunkSnapshot snapshot = chunk.getChunkSnapshot(true, false, false);
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+                Location found = findSafeLocation(snapshot, spawn, minY, maxY, hasCeiling);
+                Bukkit.getScheduler().runTask(plugin, () -> {
+                    if (found == null) {
+                        plugin.getLogger().warning("No safe spawn location found near spawn of " + world.getName()
+                                + ", using the world spawn");
+                    }
+                    entry.location().complete(found != null ? found : centered(spawn));
+                });
+            });
+        });
+    }
+
+    /**
+     * スポーンのチャンク内で、スポーンに近い順に足元が固体で2ブロック分の空間がある位置を探す
+     * 天井のないワールドでは各列の地表から下へ探し、最初に当たった地面が安全でなければその列は使わない
+     * （地下の洞窟を選ばないようにする）。天井のあるワールドではスポーンの高さから上下に探す
+     */
+    private static Location findSafeLocation(ChunkSnapshot snapshot, Location spawn, int minY, int maxY,
+                                             boolean hasCeiling) {
+        int spawnX = spawn.getBlockX() & 15;
+        int spawnZ = spawn.getBlockZ() & 15;
+        int spawnY = Math.max(minY + 1, Math.min(maxY - 2, spawn.getBlockY()));
+
+        for (int ring = 0; ring < 16; ring++) {
+            for (int dx = -ring; dx <= ring; dx++) {
+                for (int dz = -ring; dz <= ring; dz++) {
+                    if (Math.max(Math.abs(dx), Math.abs(dz)) != ring) {
+                        continue;
+                    }
+                    int x = spawnX + dx;
+                    int z = spawnZ + dz;
+                    if (x < 0 || x > 15 || z < 0 || z > 15) {
+                        continue;
+                    }
+
+                    int y = hasCeiling
+                            ? findInColumn(snapshot, x, z, spawnY, minY, maxY)
+                            : findOnSurface(snapshot, x, z, minY, maxY);
+                    if (y != Integer.MIN_VALUE) {
+                        return new Location(spawn.getWorld(), (spawn.getBlockX() & ~15) + x + 0.5, y,
+                                (spawn.getBlockZ() & ~15) + z + 0.5, spawn.getYaw(), spawn.getPitch());
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 列の地表から下へ、葉・原木・通り抜けられるブロックを飛ばして最初の地面の上が安全か確認する
+     *
+     * @return 立つ位置のY座標、安全でない場合はInteger.MIN_VALUE
+     */
+    private static int findOnSurface(ChunkSnapshot snapshot, int x, int z, int minY, int maxY) {
+        int top = Math.min(maxY - 2, snapshot.getHighestBlockYAt(x, z) + 1);
+        for (int y = top; y > minY; y--) {
+            Material floor = snapshot.getBlockType(x, y - 1, z);
+            if (isPassable(floor) || Tag.LEAVES.isTagged(floor) || Tag.LOGS.isTagged(floor)) {
+                continue;
+            }
+            return isSafe(snapshot, x, y, z) ? y : Integer.MIN_VALUE;
+        }
+        return Integer.MIN_VALUE;
+    }
+
+    /**
+     * 指定した高さから上下交互に安全な位置を探す（天井のあるワールド用）
+     *
+     * @return 立つ位置のY座標、見つからない場合はInteger.MIN_VALUE
+     */
+    private static int findInColumn(ChunkSnapshot snapshot, int x, int z, int spawnY, int minY, int maxY) {
+        for (int dy = 0; dy <= VERTICAL_SEARCH; dy = dy <= 0 ? -dy + 1 : -dy) {
+            int y = spawnY + dy;
+            if (y > minY && y < maxY - 1 && isSafe(snapshot, x, y, z)) {
+                return y;
+            }
+        }
+        return Integer.MIN_VALUE;
+    }
+
+    private static boolean isSafe(ChunkSnapshot snapshot, int x, int y, int z) {
+        Material floor = snapshot.getBlockType(x, y - 1, z);
+        return floor.isSolid() && !isHazard(floor)
+                && isPassable(snapshot.getBlockType(x, y, z))
+                && isPassable(snapshot.getBlockType(x, y + 1, z));
+    }
+
+    private static boolean isPassable(Material type) {
+        return !type.isSolid() && !isHazard(type) && type != Material.WATER && type != Material.COBWEB;
+    }
+
+    private static boolean isHazard(Material type) {
+        return switch (type) {
+            case LAVA, FIRE, SOUL_FIRE, MAGMA_BLOCK, CACTUS, CAMPFIRE, SOUL_CAMPFIRE,
+                 SWEET_BERRY_BUSH, POWDER_SNOW, POINTED_DRIPSTONE -> true;
+            default -> false;
+        };
+    }
+
+    private static Location centered(Location spawn) {
+        return new Location(spawn.getWorld(), spawn.getBlockX() + 0.5, spawn.getBlockY(), spawn.getBlockZ() + 0.5,
+                spawn.getYaw(), spawn.getPitch());
+    }
+
+    private record Entry(Location spawn, CompletableFuture<Location> location) {
+    }
+}
@@ -10,7 +10,6 @@ import org.bukkit.scoreboard.Scoreboard;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.UUID;
 
 /**
  * Bukkit Scoreboard Teamを使用してプレイヤーの色分けを管理するクラス
@@ -66,7 +65,7 @@ public class ScoreboardTeamManager {
         if (color == null) {
             color = assignNextColor(teamName);
             team.setColor(color);
-            plugin.getConfigManager().saveTeam(team);
+            plugin.getTeamManager().saveTeam(team);
         }
 
         // Bukkitチームに色を適用
@@ -80,11 +79,8 @@ public class ScoreboardTeamManager {
                 org.bukkit.scoreboard.Team.OptionStatus.ALWAYS);
 
         // チームメンバーを同期
-        for (UUID memberId : team.getMembers()) {
-            Player player = Bukkit.getPlayer(memberId);
-            if (player != null) {
-                addPlayerToScoreboardTeam(player, team);
-            }
+        for (Player player : team.getOnlineMembers()) {
+            addPlayerToScoreboardTeam(player, team);
         }
     }
 
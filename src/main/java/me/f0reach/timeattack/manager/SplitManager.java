@@ -0,0 +1,166 @@
+package me.f0reach.timeattack.manager;
+
+import me.f0reach.timeattack.PluginMain;
+import me.f0reach.timeattack.model.GameState;
+import me.f0reach.timeattack.model.SplitBuffer;
+import me.f0reach.timeattack.model.Team;
+import me.f0reach.timeattack.model.WorldSet;
+import me.f0reach.timeattack.util.MessageUtil;
+import me.f0reach.timeattack.util.TimeUtil;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
+import org.bukkit.advancement.Advancement;
+import org.bukkit.entity.Player;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * チームごとのスプリット（途中経過）を記録するクラス
+ * ネザー・エンドへの到達と、設定された実績の達成をチーム内で最初に発生した時点で記録する
+ * イベントごとの処理はチーム検索と記録済みチェックのみで、記録済みの場合はオブジェクトを生成しない
+ */
+public class SplitManager {
+    public static final String NETHER = "nether";
+    public static final String END = "end";
+
+    private final PluginMain plugin;
+
+    // 実績キー -> スプリットのキー（設定の文字列をそのまま使い、記録時に文字列を生成しない）
+    private Map<NamespacedKey, String> advancementSplits;
+
+    public SplitManager(PluginMain plugin) {
+        this.plugin = plugin;
+        this.advancementSplits = Map.of();
+    }
+
+    /**
+     * 設定からスプリット対象の実績を読み込む
+     */
+    public void reload() {
+        Map<NamespacedKey, String> splits = new HashMap<>();
+        for (String key : plugin.getConfigManager().getSplitAdvancements()) {
+            NamespacedKey namespacedKey = NamespacedKey.fromString(key);
+            if (namespacedKey == null) {
+                plugin.getLogger().warning("Invalid split advancement key: " + key);
+                continue;
+            }
+            splits.put(namespacedKey, key);
+        }
+        advancementSplits = splits;
+    }
+
+    /**
+     * プレイヤーのワールド移動時の処理（ネザー・エンド到達を記録）
+     */
+    public void onWorldChanged(Player player, World world) {
+        String key = switch (world.getEnvironment()) {
+            case NETHER -> NETHER;
+            case THE_END -> END;
+            default -> null;
+        };
+        if (key == null) {
+            return;
+        }
+
+        Team team = findRunningTeam(player.getUniqueId());
+        if (team == null || team.getSplits().contains(key)) {
+            return;
+        }
+
+        // チームのワールドへの移動のみ記録
+        WorldSet worldSet = team.getWorldSet();
+        String expected = NETHER.equals(key) ? worldSet.getNetherName() : worldSet.getEndName();
+        if (!expected.equals(world.getName())) {
+            return;
+        }
+
+        recordSplit(team, key);
+    }
+
+    /**
+     * 実績達成時の処理（設定された実績を記録）
+     */
+    public void onAdvancementDone(Player player, Advancement advancement) {
+        String key = advancementSplits.get(advancement.getKey());
+        if (key == null) {
+            return;
+        }
+
+        Team team = findRunningTeam(player.getUniqueId());
+        if (team == null || team.getSplits().contains(key)) {
+            return;
+        }
+
+        recordSplit(team, key);
+    }
+
+    /**
+     * チームのスプリットを現在の経過時間で記録
+     * @return 記録した場合true（既に記録済みの場合はfalse）
+     */
+    public boolean recordSplit(Team team, String key) {
+        TimeManager timeManager = plugin.getTimeManager();
+        if (!timeManager.isTimerRunning()) {
+            return false;
+        }
+
+        long elapsedNanos = timeManager.getElapsedNanos();
+        if (!team.getSplits().record(key, elapsedNanos, timeManager.getIgtTicks())) {
+            return false;
+        }
+        plugin.getTeamManager().saveTeam(team);
+
+        MessageUtil.sendInfo(team.audience(),
+                getDisplayName(key) + ": " + TimeUtil.formatTime(elapsedNanos / 1_000_000L));
+
+        if (plugin.getConfigManager().isDebug()) {
+            plugin.getLogger().info("Team " + team.getName() + " split " + key + " at " + elapsedNanos + "ns");
+        }
+        return true;
+    }
+
+    /**
+     * 記録対象のスプリットの種類数（ネザー・エンド到達と設定された実績）
+     */
+    public int getSplitCount() {
+        return 2 + advancementSplits.size();
+    }
+
+    /**
+     * スプリットの表示名を取得
+     */
+    public String getDisplayName(String key) {
+        return switch (key) {
+            case NETHER -> "ネザー到達";
+            case END -> "エンド到達";
+            case "minecraft:nether/find_fortress" -> "ネザー要塞発見";
+            default -> key;
+        };
+    }
+
+    /**
+     * スプリットの一覧を表示用の行に変換
+     */
+    public String[] formatSplits(SplitBuffer splits) {
+        String[] lines = new String[splits.size()];
+        for (int i = 0; i < splits.size(); i++) {
+            lines[i] = getDisplayName(splits.getKey(i)) + ": "
+                    + TimeUtil.formatTime(splits.getElapsedNanos(i) / 1_000_000L);
+        }
+        return lines;
+    }
+
+    private Team findRunningTeam(UUID playerId) {
+        if (!plugin.getConfigManager().isSplitsEnabled()
+                || plugin.getGameManager().getGameState() != GameState.RUNNING) {
+            return null;
+        }
+        Team team = plugin.getTeamManager().getPlayerTeam(playerId);
+        if (team == null || team.getState() != GameState.RUNNING || !team.hasWorldSet()) {
+            return null;
+        }
+        return team;
+    }
+}
@@ -0,0 +1,198 @@
+package me.f0reach.timeattack.manager;
+
+import me.f0reach.timeattack.PluginMain;
+import me.f0reach.timeattack.model.Team;
+import me.f0reach.timeattack.model.WorldSet;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+
+/**
+ * ゲーム開始時のテレポートを行うクラス
+ * 各チームのスポーン周辺のチャンクを非同期に読み込んでから、1tickあたりの人数を制限してテレポートする
+ * テレポート中のプレイヤーは全員の移動が終わるまで動けないようにし、同時にスタートさせる
+ */
+public class StartTeleporter {
+    // スポーンを中心に読み込むチャンクの半径
+    private static final int PRELOAD_RADIUS = 1;
+    // チャンクの読み込みを待つ最大tick数（超えた場合は読み込みを待たずにテレポートする）
+    private static final int PRELOAD_TIMEOUT_TICKS = 600;
+
+    private final PluginMain plugin;
+    private final Set<UUID> frozen;
+    private final Deque<Teleport> pending;
+    private final List<Chunk> ticketedChunks;
+    private Runnable onComplete;
+    private BukkitTask task;
+    private int preloadRemaining;
+    private int arrivalsRemaining;
+    private int startTick;
+    private int generation; // 中止後に完了したチャンク読み込みを無視するための世代番号
+
+    public StartTeleporter(PluginMain plugin) {
+        this.plugin = plugin;
+        this.frozen = new HashSet<>();
+        this.pending = new ArrayDeque<>();
+        this.ticketedChunks = new ArrayList<>();
+    }
+
+    /**
+     * 全チームのテレポートを開始し、全員の移動が終わったらonCompleteを呼ぶ
+     */
+    public void start(Collection<Team> teams, Runnable onComplete) {
+        cancel();
+        this.onComplete = onComplete;
+        this.startTick = Bukkit.getCurrentTick();
+        this.generation++;
+
+        for (Team team : teams) {
+            WorldSet worldSet = team.getWorldSet();
+            World world = worldSet != null ? worldSet.getOverworld() : null;
+            if (world == null) {
+                continue;
+            }
+
+            preload(world);
+            for (Player player : team.getOnlineMembers()) {
+                frozen.add(player.getUniqueId());
+                pending.add(new Teleport(player.getUniqueId(), worldSet));
+            }
+        }
+
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    /**
+     * テレポート中に参加（再参加）したプレイヤーを待ち行列に加え、他のプレイヤーと一緒にスタートさせる
+     * 既にチームのワールドにいる場合はテレポートせず、停止だけ行う
+     *
+     * @return テレポート中で受け付けた場合true
+     */
+    public boolean join(Player player, WorldSet worldSet) {
+        if (task == null) {
+            return false;
+        }
+
+        UUID playerId = player.getUniqueId();
+        frozen.add(playerId);
+        boolean queued = pending.stream().anyMatch(teleport -> teleport.playerId().equals(playerId));
+        if (!queued && !worldSet.containsWorld(player.getWorld())) {
+            pending.add(new Teleport(playerId, worldSet));
+        }
+        return true;
+    }
+
+    /**
+     * テレポート中か確認
+     */
+    public boolean isActive() {
+        return task != null;
+    }
+
+    /**
+     * プレイヤーがスタート待ちで停止中か確認
+     */
+    public boolean isFrozen(UUID playerId) {
+        return frozen.contains(playerId);
+    }
+
+    /**
+     * テレポートを中止し、停止中のプレイヤーを解放する（onCompleteは呼ばれない）
+     */
+    public void cancel() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        release();
+    }
+
+    /**
+     * スポーン周辺のチャンクを非同期に読み込み、スタートまでアンロードされないようにする
+     */
+    private void preload(World world) {
+        Location spawn = world.getSpawnLocation();
+        int centerX = spawn.getBlockX() >> 4;
+        int centerZ = spawn.getBlockZ() >> 4;
+        int requestGeneration = generation;
+        for (int dx = -PRELOAD_RADIUS; dx <= PRELOAD_RADIUS; dx++) {
+            for (int dz = -PRELOAD_RADIUS; dz <= PRELOAD_RADIUS; dz++) {
+                preloadRemaining++;
+                world.getChunkAtAsync(centerX + dx, centerZ + dz, true).whenComplete((chunk, error) -> {
+                    if (requestGeneration != generation || task == null) {
+                        return;
+                    }
+                    preloadRemaining--;
+                    if (chunk != null) {
+                        chunk.addPluginChunkTicket(plugin);
+                        ticketedChunks.add(chunk);
+                    }
+                });
+            }
+        }
+    }
+
+    private void tick() {
+        if (preloadRemaining > 0) {
+            if (Bukkit.getCurrentTick() - startTick < PRELOAD_TIMEOUT_TICKS) {
+                return;
+            }
+            plugin.getLogger().warning("Spawn chunks are still loading after " + PRELOAD_TIMEOUT_TICKS
+                    + " ticks, teleporting anyway (" + preloadRemaining + " remaining)");
+            preloadRemaining = 0;
+        }
+
+        int budget = Math.max(1, plugin.getConfigManager().getStartTeleportsPerTick());
+        for (int i = 0; i < budget && !pending.isEmpty(); i++) {
+            Teleport teleport = pending.poll();
+            Player player = Bukkit.getPlayer(teleport.playerId());
+            if (player == null) {
+                frozen.remove(teleport.playerId());
+                continue;
+            }
+            arrivalsRemaining++;
+            int requestGeneration = generation;
+            plugin.getWorldSetManager().teleportToWorldSetSpawn(teleport.worldSet(), World.Environment.NORMAL, player)
+                    .whenComplete((success, error) -> {
+                        if (requestGeneration == generation) {
+                            arrivalsRemaining--;
+                        }
+                    });
+        }
+
+        // 全員のテレポートが完了するまで待つ
+        if (pending.isEmpty() && arrivalsRemaining <= 0) {
+            Runnable callback = onComplete;
+            task.cancel();
+            task = null;
+            release();
+            if (callback != null) {
+                callback.run();
+            }
+        }
+    }
+
+    /**
+     * 停止中のプレイヤーとチャンクチケットを解放
+     * プレイヤーが移動済みのチャンクはそのまま読み込まれ続ける
+     */
+    private void release() {
+        onComplete = null;
+        frozen.clear();
+        pending.clear();
+        for (Chunk chunk : ticketedChunks) {
+            chunk.removePluginChunkTicket(plugin);
+        }
+        ticketedChunks.clear();
+        preloadRemaining = 0;
+        arrivalsRemaining = 0;
+    }
+
+    private record Teleport(UUID playerId, WorldSet worldSet) {
+    }
+}
@@ -12,11 +12,13 @@ import java.util.stream.Collectors;
 
 /**
  * チームの管理を行うクラス
+ * 各チームのオンラインメンバーの索引も管理し、参加・退出時に更新する
  */
 public class TeamManager {
     private final PluginMain plugin;
     private final Map<String, Team> teams; // teamName -> Team
     private final Map<UUID, String> playerTeams; // playerUUID -> teamName
+    private TeamTransaction activeTransaction;
 
     public TeamManager(PluginMain plugin) {
         this.plugin = plugin;
@@ -43,12 +45,18 @@ public class TeamManager {
                 playerTeams.put(memberId, team.getName());
             }
 
-            // ワールドセットをWorldSetManagerに登録
+            // ワールドセットをWorldSetManagerに登録し、開始前であればスポーン周辺の生成を予約する
             if (team.getWorldSet() != null) {
                 plugin.getWorldSetManager().registerWorldSet(team.getWorldSet());
+                if (team.getState() == GameState.WAITING) {
+                    plugin.getChunkPregenerator().pregenerate(team.getWorldSet());
+                }
             }
         }
 
+        // リロード時は既にオンラインのプレイヤーがいるため索引を作り直す
+        rebuildOnlineIndex();
+
         plugin.getLogger().info("Loaded " + teams.size() + " teams from data file");
     }
 
@@ -67,8 +75,20 @@ public class TeamManager {
         if (plugin.getGameManager().getGameState() == GameState.RUNNING) {
             team.setState(GameState.RUNNING);
         }
+        // プールにワールドセットがあれば割り当てる
+        if (plugin.getWorldSetPool() != null) {
+            WorldSet claimed = plugin.getWorldSetPool().claim(name);
+            team.setWorldSet(claimed);
+            if (claimed != null) {
+                plugin.getChunkPregenerator().pregenerate(claimed);
+                // トランザクションが破棄された場合はプールに戻す
+                if (activeTransaction != null) {
+                    activeTransaction.onRollback(() -> plugin.getWorldSetPool().release(claimed));
+                }
+            }
+        }
         teams.put(name, team);
-        plugin.getConfigManager().saveTeam(team);
+        saveTeam(team);
 
         // スコアボードチームに同期
         if (plugin.getScoreboardTeamManager() != null) {
@@ -79,6 +99,25 @@ public class TeamManager {
         return team;
     }
 
+    /**
+     * 複数のチームをまとめて作成（保存は1回に集約される）
+     *
+     * @return 作成されたチームのリスト（既に存在する名前はスキップ）
+     */
+    public List<Team> createTeams(Collection<String> names) {
+        List<Team> created = new ArrayList<>();
+        try (TeamTransaction tx = beginTransaction()) {
+            for (String name : names) {
+                Team team = createTeam(name);
+                if (team != null) {
+                    created.add(team);
+                }
+            }
+            tx.commit();
+        }
+        return created;
+    }
+
     /**
      * チームを削除
      * 
@@ -110,15 +149,16 @@ public class TeamManager {
 
         // メンバーをスコアボードチームから削除
         if (plugin.getScoreboardTeamManager() != null) {
-            for (UUID memberId : team.getMembers()) {
-                Player player = Bukkit.getPlayer(memberId);
-                if (player != null) {
-                    plugin.getScoreboardTeamManager().removePlayerFromAllScoreboardTeams(player);
-                }
+            for (Player player : team.getOnlineMembers()) {
+                plugin.getScoreboardTeamManager().removePlayerFromAllScoreboardTeams(player);
             }
 
             plugin.getScoreboardTeamManager().removeScoreboardTeam(name);
         }
+        if (plugin.getTimeManager() != null) {
+            plugin.getTimeManager().getBossBars().removeTeam(team);
+        }
+        team.clearOnlineMembers();
 
         // メンバーをチームから削除
         // Note: team.getMembers()とplayerTeamsは独立しているため、ここでのループは安全
@@ -161,12 +201,16 @@ public class TeamManager {
 
         team.addMember(playerId);
         playerTeams.put(playerId, teamName);
-        plugin.getConfigManager().saveTeam(team);
+        saveTeam(team);
 
-        // スコアボードチームに追加
+        // オンラインメンバーの索引とスコアボードチームに追加
         Player player = Bukkit.getPlayer(playerId);
-        if (player != null && plugin.getScoreboardTeamManager() != null) {
-            plugin.getScoreboardTeamManager().addPlayerToScoreboardTeam(player, team);
+        if (player != null) {
+            team.setOnline(player);
+            showBossBar(team, player);
+            if (plugin.getScoreboardTeamManager() != null) {
+                plugin.getScoreboardTeamManager().addPlayerToScoreboardTeam(player, team);
+            }
         }
 
         return true;
@@ -184,13 +228,16 @@ public class TeamManager {
         }
 
         Team team = teams.get(teamName);
+        Player player = Bukkit.getPlayer(playerId);
         if (team != null) {
             team.removeMember(playerId);
-            plugin.getConfigManager().saveTeam(team);
+            saveTeam(team);
+            if (player != null && plugin.getTimeManager() != null) {
+                plugin.getTimeManager().getBossBars().hide(team, player);
+            }
         }
 
         // スコアボードチームから削除
-        Player player = Bukkit.getPlayer(playerId);
         if (player != null && plugin.getScoreboardTeamManager() != null) {
             plugin.getScoreboardTeamManager().removePlayerFromAllScoreboardTeams(player);
         }
@@ -199,6 +246,56 @@ public class TeamManager {
         return true;
     }
 
+    // ========== オンラインメンバーの索引 ==========
+
+    /**
+     * プレイヤーの参加時に所属チームのオンラインメンバーとして登録
+     */
+    public void playerJoined(Player player) {
+        Team team = getPlayerTeam(player.getUniqueId());
+        if (team != null) {
+            team.setOnline(player);
+            showBossBar(team, player);
+        }
+    }
+
+    /**
+     * プレイヤーの退出時に所属チームのオンラインメンバーから外す
+     */
+    public void playerQuit(Player player) {
+        Team team = getPlayerTeam(player.getUniqueId());
+        if (team != null) {
+            team.setOffline(player.getUniqueId());
+            if (plugin.getTimeManager() != null) {
+                plugin.getTimeManager().getBossBars().hide(team, player);
+            }
+        }
+    }
+
+    private void showBossBar(Team team, Player player) {
+        if (plugin.getTimeManager() != null) {
+            plugin.getTimeManager().getBossBars().show(team, player);
+        }
+    }
+
+    /**
+     * 現在オンラインのプレイヤーから全チームの索引を作り直す
+     */
+    private void rebuildOnlineIndex() {
+        for (Team team : teams.values()) {
+            team.clearOnlineMembers();
+        }
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            Team team = getPlayerTeam(player.getUniqueId());
+            if (team != null) {
+                team.setOnline(player);
+            }
+        }
+        if (plugin.getTimeManager() != null) {
+            plugin.getTimeManager().getBossBars().resync(teams.values());
+        }
+    }
+
     /**
      * チームを取得
      */
@@ -323,7 +420,10 @@ public class TeamManager {
         }
 
         team.setWorldSet(worldSet);
-        plugin.getConfigManager().saveTeam(team);
+        saveTeam(team);
+        if (worldSet != null) {
+            plugin.getChunkPregenerator().pregenerate(worldSet);
+        }
         return true;
     }
 
@@ -331,9 +431,12 @@ public class TeamManager {
      * 全チームの状態をリセット
      */
     public void resetAllTeams() {
-        for (Team team : teams.values()) {
-            team.reset();
-            plugin.getConfigManager().saveTeam(team);
+        try (TeamTransaction tx = beginTransaction()) {
+            for (Team team : teams.values()) {
+                team.reset();
+                saveTeam(team);
+            }
+            tx.commit();
         }
     }
 
@@ -366,14 +469,115 @@ public class TeamManager {
         // ランダムにシャッフル
         Collections.shuffle(eligiblePlayers);
 
-        // 各プレイヤーを人数最小のチームに振り分け
-        for (Player player : eligiblePlayers) {
-            Team team = getTeamWithFewestMembers();
-            if (team != null && addPlayer(player.getUniqueId(), team.getName())) {
-                assignments.put(player, team);
+        // 各プレイヤーを人数最小のチームに振り分け（保存は最後に1回だけ行う）
+        try (TeamTransaction tx = beginTransaction()) {
+            for (Player player : eligiblePlayers) {
+                Team team = getTeamWithFewestMembers();
+                if (team != null && addPlayer(player.getUniqueId(), team.getName())) {
+                    assignments.put(player, team);
+                }
             }
+            tx.commit();
         }
 
         return assignments;
     }
+
+    // ========== 永続化・トランザクション ==========
+
+    /**
+     * チームの変更を保存
+     * トランザクション中の場合はcommit時まで保存を保留する
+     */
+    public void saveTeam(Team team) {
+        if (activeTransaction != null) {
+            activeTransaction.markDirty(team);
+        } else {
+            plugin.getConfigManager().saveTeam(team);
+        }
+    }
+
+    /**
+     * チーム変更のトランザクションを開始
+     * commit()で変更がまとめて保存され、commit()せずにclose()するとrollbackされる
+     *
+     * @throws IllegalStateException 既にトランザクションが進行中の場合
+     */
+    public TeamTransaction beginTransaction() {
+        if (activeTransaction != null) {
+            throw new IllegalStateException("A team transaction is already in progress");
+        }
+        activeTransaction = new TeamTransaction(this, teams, playerTeams);
+        return activeTransaction;
+    }
+
+    /**
+     * トランザクションが進行中か確認
+     */
+    public boolean isInTransaction() {
+        return activeTransaction != null;
+    }
+
+    void endTransaction(TeamTransaction transaction) {
+        if (activeTransaction == transaction) {
+            activeTransaction = null;
+        }
+    }
+
+    void persistTeams(Collection<Team> dirtyTeams) {
+        plugin.getConfigManager().saveTeams(dirtyTeams);
+    }
+
+    /**
+     * rollback時にチームとプレイヤーの所属をトランザクション開始時点に戻す
+     */
+    void restoreState(Map<String, Team> teamsBefore, Map<UUID, String> playerTeamsBefore) {
+        ScoreboardTeamManager scoreboardTeamManager = plugin.getScoreboardTeamManager();
+
+        // トランザクション中に作成されたチームのスコアボードチームを削除
+        if (scoreboardTeamManager != null) {
+            for (String name : teams.keySet()) {
+                if (!teamsBefore.containsKey(name)) {
+                    scoreboardTeamManager.removeScoreboardTeam(name);
+                }
+            }
+        }
+
+        // 所属が変わったプレイヤーを記録
+        Set<UUID> changedPlayers = new HashSet<>();
+        for (Map.Entry<UUID, String> entry : playerTeams.entrySet()) {
+            if (!entry.getValue().equals(playerTeamsBefore.get(entry.getKey()))) {
+                changedPlayers.add(entry.getKey());
+            }
+        }
+        for (UUID playerId : playerTeamsBefore.keySet()) {
+            if (!playerTeams.containsKey(playerId)) {
+                changedPlayers.add(playerId);
+            }
+        }
+
+        teams.clear();
+        teams.putAll(teamsBefore);
+        playerTeams.clear();
+        playerTeams.putAll(playerTeamsBefore);
+        rebuildOnlineIndex();
+
+        // スコアボードチームの所属を元に戻す
+        if (scoreboardTeamManager != null) {
+            for (UUID playerId : changedPlayers) {
+                Player player = Bukkit.getPlayer(playerId);
+                if (player == null) {
+                    continue;
+                }
+                Team team = getPlayerTeam(playerId);
+                if (team != null) {
+                    scoreboardTeamManager.addPlayerToScoreboardTeam(player, team);
+                } else {
+                    scoreboardTeamManager.removePlayerFromAllScoreboardTeams(player);
+                }
+            }
+        }
+
+        plugin.getLogger().info("Rolled back team transaction");
+    }
 }
@@ -0,0 +1,155 @@
+package me.f0reach.timeattack.manager;
+
+import me.f0reach.timeattack.model.GameState;
+import me.f0reach.timeattack.model.SplitBuffer;
+import me.f0reach.timeattack.model.Team;
+import me.f0reach.timeattack.model.WorldSet;
+
+import java.util.*;
+
+/**
+ * チームに対する一括変更をまとめるトランザクション
+ * トランザクション中の変更はメモリ上にのみ適用され、commit()時に1回の保存で永続化される
+ * commit()せずにclose()した場合はrollback()され、開始時点の状態に戻る
+ *
+ * <pre>
+ * try (TeamTransaction tx = teamManager.beginTransaction()) {
+ *     teamManager.addPlayer(...);
+ *     tx.commit();
+ * }
+ * </pre>
+ */
+public class TeamTransaction implements AutoCloseable {
+    private final TeamManager teamManager;
+
+    // 開始時点のスナップショット
+    private final Map<String, Team> teamsBefore;
+    private final Map<UUID, String> playerTeamsBefore;
+    private final Map<Team, TeamSnapshot> snapshots;
+
+    // トランザクション中に変更されたチーム
+    private final Set<Team> dirtyTeams;
+    // rollback時に実行する、チーム以外への変更を取り消す処理（登録の逆順に実行）
+    private final Deque<Runnable> undoActions;
+    private boolean finished;
+
+    TeamTransaction(TeamManager teamManager, Map<String, Team> teams, Map<UUID, String> playerTeams) {
+        this.teamManager = teamManager;
+        this.teamsBefore = new LinkedHashMap<>(teams);
+        this.playerTeamsBefore = new HashMap<>(playerTeams);
+        this.snapshots = new HashMap<>();
+        this.dirtyTeams = new LinkedHashSet<>();
+        this.undoActions = new ArrayDeque<>();
+
+        for (Team team : teams.values()) {
+            snapshots.put(team, TeamSnapshot.of(team));
+        }
+    }
+
+    /**
+     * チームを変更済みとしてマーク（commit時に保存される）
+     */
+    void markDirty(Team team) {
+        dirtyTeams.add(team);
+    }
+
+    /**
+     * rollback時に取り消す処理を登録（プールから割り当てたワールドセットなど、スナップショットで戻せない変更用）
+     */
+    void onRollback(Runnable undo) {
+        undoActions.push(undo);
+    }
+
+    /**
+     * 変更を確定し、変更されたチームを1回の保存で永続化する
+     */
+    public void commit() {
+        ensureActive();
+        finished = true;
+        teamManager.endTransaction(this);
+
+        // トランザクション中に削除されたチームは保存しない
+        List<Team> toSave = new ArrayList<>();
+        for (Team team : dirtyTeams) {
+            if (teamManager.getTeam(team.getName()) == team) {
+                toSave.add(team);
+            }
+        }
+        teamManager.persistTeams(toSave);
+    }
+
+    /**
+     * 変更を破棄し、メモリ上の状態を開始時点に戻す
+     */
+    public void rollback() {
+        ensureActive();
+        finished = true;
+        teamManager.endTransaction(this);
+
+        for (Map.Entry<Team, TeamSnapshot> entry : snapshots.entrySet()) {
+            entry.getValue().restore(entry.getKey());
+        }
+        teamManager.restoreState(teamsBefore, playerTeamsBefore);
+        while (!undoActions.isEmpty()) {
+            undoActions.pop().run();
+        }
+    }
+
+    /**
+     * トランザクションが確定または破棄済みか確認
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * commit()されていない場合はrollback()する
+     */
+    @Override
+    public void close() {
+        if (!finished) {
+            rollback();
+        }
+    }
+
+    private void ensureActive() {
+        if (finished) {
+            throw new IllegalStateException("Transaction has already been committed or rolled back");
+        }
+    }
+
+    /**
+     * チームの状態のスナップショット
+     */
+    private record TeamSnapshot(Set<UUID> members, WorldSet worldSet, GameState state,
+                                long completionTime, long completionNanos, int completionTick,
+                                long completionIgtTicks, String color, SplitBuffer splits) {
+
+        static TeamSnapshot of(Team team) {
+            SplitBuffer splits = new SplitBuffer(team.getSplits().capacity());
+            splits.copyFrom(team.getSplits());
+            return new TeamSnapshot(new HashSet<>(team.getMembers()), team.getWorldSet(),
+                    team.getState(), team.getCompletionTime(), team.getCompletionNanos(),
+                    team.getCompletionTick(), team.getCompletionIgtTicks(), team.getColor(), splits);
+        }
+
+        void restore(Team team) {
+            for (UUID memberId : new ArrayList<>(team.getMembers())) {
+                if (!members.contains(memberId)) {
+                    team.removeMember(memberId);
+                }
+            }
+            for (UUID memberId : members) {
+                team.addMember(memberId);
+            }
+            team.setWorldSet(worldSet);
+            team.setState(state);
+            team.setCompletionTime(completionTime);
+            team.setCompletionNanos(completionNanos);
+            team.setCompletionTick(completionTick);
+            team.setCompletionIgtTicks(completionIgtTicks);
+            team.setColor(color);
+            team.getSplits().copyFrom(splits);
+        }
+    }
+}
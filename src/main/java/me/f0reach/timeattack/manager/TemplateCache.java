@@ -0,0 +1,312 @@
+package me.f0reach.timeattack.manager;
+
+import me.f0reach.timeattack.PluginMain;
+import me.f0reach.timeattack.model.Team;
+import me.f0reach.timeattack.model.WorldSet;
+import me.f0reach.timeattack.util.WorldFiles;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.WorldCreator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+import java.util.stream.Stream;
+
+/**
+ * シードごとのテンプレートワールドのキャッシュ
+ * 生成直後のワールドセットをプラグインフォルダの templates/ に保存し、シードと構造物生成の設定が同じワールドは
+ * テンプレートのコピーで作成する。合計サイズが上限を超えた場合は最後に使われたのが古いものから削除する
+ */
+public class TemplateCache {
+    private static final String CACHE_FOLDER = "templates";
+    // テンプレートを生成するときのワールド名のプレフィックス（生成後にキャッシュへ移動する）
+    private static final String TEMPLATE_PREFIX = "ta_template_";
+
+    private final PluginMain plugin;
+    private final Path cacheFolder;
+    private final Map<Path, CompletableFuture<Path>> generating; // テンプレートのフォルダ -> 生成中のFuture
+    private volatile long cachedBytes;
+    private boolean evicting;
+    private boolean evictAgain; // 削除中に新しいテンプレートが追加された場合、終了後にもう一度確認する
+
+    public TemplateCache(PluginMain plugin) {
+        this.plugin = plugin;
+        this.cacheFolder = plugin.getDataFolder().toPath().resolve(CACHE_FOLDER);
+        this.generating = new HashMap<>();
+    }
+
+    /**
+     * サーバーフォルダに残ったテンプレート（以前の保存場所や生成途中のもの）を削除し、キャッシュのサイズを計算する
+     */
+    public void start() {
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(Bukkit.getWorldContainer().toPath(),
+                entry -> entry.getFileName().toString().startsWith(TEMPLATE_PREFIX))) {
+            for (Path entry : entries) {
+                if (Bukkit.getWorld(entry.getFileName().toString()) == null) {
+                    plugin.getLogger().info("Discarding stale template world folder " + entry.getFileName());
+                    plugin.getWorldTrash().discard(entry);
+                }
+            }
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to list stale template world folders", e);
+        }
+        plugin.getWorldTrash().sweep(cacheFolder);
+        evictAsync();
+    }
+
+    /**
+     * キャッシュのキー（シードと構造物生成の設定のみ）
+     * ワールドタイプとジェネレーターは設定できず常にデフォルトのため、キーに含めない
+     */
+    public static String getKey(long seed, boolean generateStructures) {
+        return Long.toHexString(seed) + (generateStructures ? "" : "_nostructures");
+    }
+
+    /**
+     * 現在の設定でのシードのキー
+     */
+    public String getKey(long seed) {
+        return getKey(seed, plugin.getConfigManager().isGenerateStructures());
+    }
+
+    /**
+     * シードのテンプレートが全てのディメンション分キャッシュされているか確認
+     */
+    public boolean contains(long seed) {
+        String key = getKey(seed);
+        for (World.Environment environment : WorldSetManager.CREATION_ORDER) {
+            if (!WorldFiles.isWorldFolder(getTemplateFolder(key, seed, environment))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * テンプレートのフォルダを取得し、最終使用時刻を更新する（存在しない場合は生成する、メインスレッドで呼ぶこと）
+     * 生成中のテンプレートを再度要求した場合は同じFutureを返す
+     *
+     * @return テンプレートのフォルダ（生成に失敗した場合はnull）で完了するFuture（メインスレッドで完了する）
+     */
+    public CompletableFuture<Path> getTemplate(long seed, World.Environment environment) {
+        String key = getKey(seed);
+        Path folder = getTemplateFolder(key, seed, environment);
+        CompletableFuture<Path> pending = generating.get(folder);
+        if (pending != null) {
+            return pending;
+        }
+        if (WorldFiles.isWorldFolder(folder)) {
+            touch(cacheFolder.resolve(key));
+            return CompletableFuture.completedFuture(folder);
+        }
+
+        CompletableFuture<Path> future = generate(key, seed, environment, folder).thenApply(stored -> {
+            generating.remove(folder);
+            if (!stored) {
+                return null;
+            }
+            touch(cacheFolder.resolve(key));
+            return folder;
+        });
+        if (!future.isDone()) {
+            generating.put(folder, future);
+        }
+        return future;
+    }
+
+    /**
+     * キャッシュの合計サイズ（最後に計算した値、バイト単位）
+     */
+    public long getCachedBytes() {
+        return cachedBytes;
+    }
+
+    /**
+     * テンプレートを生成してキャッシュへ移動し、上限を超えた場合は古いテンプレートを削除する
+     * 生成とアンロードはメインスレッドで行い、キャッシュへの移動（コピー）はバックグラウンドで行う
+     * テンプレートはMultiverseに登録せず、チームのワールドとしても扱わない
+     *
+     * @return 保存に成功した場合trueで完了するFuture（メインスレッドで完了する）
+     */
+    private CompletableFuture<Boolean> generate(String key, long seed, World.Environment environment, Path target) {
+        String worldName = target.getFileName().toString();
+        Path generated = Bukkit.getWorldContainer().toPath().resolve(worldName);
+
+        World world = Bukkit.getWorld(worldName);
+        if (world == null) {
+            // 生成途中で残ったフォルダは作り直す
+            if (!plugin.getWorldTrash().discard(worldName)) {
+                return CompletableFuture.completedFuture(false);
+            }
+
+            plugin.getLogger().info("Generating template world: " + worldName);
+            world = new WorldCreator(worldName)
+                    .environment(environment)
+                    .seed(seed)
+                    .generateStructures(plugin.getConfigManager().isGenerateStructures())
+                    .createWorld();
+            if (world == null) {
+                plugin.getLogger().severe("Failed to generate template world: " + worldName);
+                return CompletableFuture.completedFuture(false);
+            }
+        }
+
+        // 保存してアンロードし、ファイルの内容を確定させる
+        if (!Bukkit.unloadWorld(world, true)) {
+            plugin.getLogger().severe("Failed to unload template world: " + worldName);
+            return CompletableFuture.completedFuture(false);
+        }
+
+        WorldSetManager worldSetManager = plugin.getWorldSetManager();
+        return CompletableFuture.runAsync(() -> store(worldName, generated, target), worldSetManager.getIoExecutor())
+                .handleAsync((ignored, error) -> {
+                    if (error != null) {
+                        plugin.getLogger().log(Level.SEVERE, "Failed to store template world " + worldName
+                                + " in cache", error);
+                        return false;
+                    }
+
+                    plugin.getLogger().info("Cached template world " + worldName + " (key " + key + ")");
+                    evictAsync();
+                    return WorldFiles.isWorldFolder(target);
+                }, worldSetManager.getMainThreadExecutor());
+    }
+
+    /**
+     * 生成したワールドフォルダをキャッシュへ移動する（バックグラウンドで呼ぶ）
+     */
+    private void store(String worldName, Path generated, Path target) {
+        try {
+            Files.createDirectories(target.getParent());
+            WorldFiles.deleteWorldFolder(target);
+            try {
+                Files.move(generated, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                // サーバーフォルダとプラグインフォルダが別のファイルシステムにある場合はコピーする
+                WorldFiles.copyWorldFolder(generated, target);
+                if (!plugin.getWorldTrash().discard(worldName)) {
+                    plugin.getLogger().warning("Could not remove template world folder " + worldName
+                            + " after copying it to the cache; it will be removed on the next start");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 合計サイズが上限を超えている場合、使用中でないテンプレートを最終使用時刻の古い順に削除する（バックグラウンドで行う）
+     * 現在のシードとチームのワールドセットのシードのテンプレートは削除しない
+     */
+    private void evictAsync() {
+        if (evicting) {
+            evictAgain = true;
+            return;
+        }
+        evicting = true;
+
+        long budgetBytes = plugin.getConfigManager().getTemplateCacheBudgetMb() * 1024L * 1024L;
+        Set<String> inUse = new HashSet<>();
+        if (plugin.getConfigManager().hasSeed()) {
+            inUse.add(getKey(plugin.getConfigManager().getCurrentSeed()));
+        }
+        for (Team team : plugin.getTeamManager().getAllTeams()) {
+            WorldSet worldSet = team.getWorldSet();
+            if (worldSet != null) {
+                inUse.add(getKey(worldSet.getSeed()));
+            }
+        }
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                evict(budgetBytes, inUse);
+            } finally {
+                if (plugin.isEnabled()) {
+                    Bukkit.getScheduler().runTask(plugin, () -> {
+                        evicting = false;
+                        if (evictAgain) {
+                            evictAgain = false;
+                            evictAsync();
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    private void evict(long budgetBytes, Set<String> inUse) {
+        if (!Files.isDirectory(cacheFolder)) {
+            cachedBytes = 0;
+            return;
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        long total = 0;
+        try (Stream<Path> folders = Files.list(cacheFolder)) {
+            for (Path folder : (Iterable<Path>) folders::iterator) {
+                if (!Files.isDirectory(folder) || WorldTrash.isTombstone(folder)) {
+                    continue;
+                }
+                Entry entry = new Entry(folder, sizeOf(folder), Files.getLastModifiedTime(folder));
+                entries.add(entry);
+                total += entry.bytes();
+            }
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to measure template cache", e);
+            return;
+        }
+
+        if (budgetBytes > 0 && total > budgetBytes) {
+            entries.sort(Comparator.comparing(Entry::lastUsed));
+            for (Entry entry : entries) {
+                if (total <= budgetBytes) {
+                    break;
+                }
+                String key = entry.folder().getFileName().toString();
+                if (inUse.contains(key)) {
+                    continue;
+                }
+                if (!plugin.getWorldTrash().discard(entry.folder())) {
+                    continue;
+                }
+                total -= entry.bytes();
+                plugin.getLogger().info("Evicted template " + key + " (" + entry.bytes() / (1024 * 1024)
+                        + " MiB) from cache");
+            }
+        }
+        cachedBytes = total;
+    }
+
+    private Path getTemplateFolder(String key, long seed, World.Environment environment) {
+        return cacheFolder.resolve(key).resolve(new WorldSet(TEMPLATE_PREFIX + key, seed).getWorldName(environment));
+    }
+
+    private void touch(Path folder) {
+        try {
+            Files.setLastModifiedTime(folder, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.FINE, "Failed to update last use of template " + folder.getFileName(), e);
+        }
+    }
+
+    private static long sizeOf(Path folder) throws IOException {
+        long[] bytes = new long[1];
+        Files.walkFileTree(folder, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                bytes[0] += attrs.size();
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return bytes[0];
+    }
+
+    private record Entry(Path folder, long bytes, FileTime lastUsed) {
+    }
+}
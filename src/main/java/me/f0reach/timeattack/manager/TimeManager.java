@@ -1,34 +1,47 @@
 package me.f0reach.timeattack.manager;
 
 import me.f0reach.timeattack.PluginMain;
-import me.f0reach.timeattack.model.Team;
-import me.f0reach.timeattack.util.MessageUtil;
+import me.f0reach.timeattack.model.CompletionRecord;
 import me.f0reach.timeattack.util.TimeUtil;
 import org.bukkit.Bukkit;
-import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitTask;
 
-import java.util.UUID;
-
 /**
  * ゲーム全体で共通のタイマーを管理するクラス
- * 開始時刻はConfigに保存され、サーバー再起動後も継続可能
+ * 開始時刻（壁時計）はConfigに保存され、サーバー再起動後も継続可能
+ * 実行中の経過時間はSystem.nanoTime()を基準に計測するため、NTPによる時刻補正の影響を受けない
+ * サーバー負荷の影響を受けないゲーム内時間（IGT）をサーバーのtick数で並行して計測する
+ * 実行中の状態はメモリ上に保持し、参照時にConfigを読まない（保存は変更時とIGTのチェックポイントのみ）
  */
 public class TimeManager {
+    // IGTをConfigに書き出す間隔（tick単位）
+    private static final long IGT_CHECKPOINT_INTERVAL = 1200L;
+
     private final PluginMain plugin;
     private BukkitTask updateTask;
+    private BukkitTask checkpointTask;
+    private final ActionBarRenderer actionBarRenderer = new ActionBarRenderer();
+    private final TimerBossBars bossBars;
+
+    // タイマーの状態（どのスレッドからも1回のフィールド読み取りで参照できるよう不変オブジェクトを差し替える）
+    private volatile TimerState timerState;
 
     public TimeManager(PluginMain plugin) {
         this.plugin = plugin;
+        this.bossBars = new TimerBossBars(plugin);
+        this.timerState = TimerState.fromStartTime(plugin.getConfigManager().getGameStartTime(),
+                plugin.getConfigManager().getGameIgtTicks());
     }
 
     /**
      * ゲームタイマーを開始（開始時刻をConfigに保存）
      */
     public void startTimer() {
-        long startTime = System.currentTimeMillis();
-        plugin.getConfigManager().setGameStartTime(startTime);
-        plugin.getLogger().info("Game timer started at: " + startTime);
+        TimerState state = TimerState.started();
+        timerState = state;
+        plugin.getConfigManager().setGameStartTime(state.startTime());
+        plugin.getConfigManager().setGameIgtTicks(0);
+        plugin.getLogger().info("Game timer started at: " + state.startTime() + " (tick " + state.igtAnchorTick() + ")");
         startUpdateTask();
     }
 
@@ -45,11 +58,32 @@ public class TimeManager {
      * @return 経過時間（ミリ秒）、タイマーが開始されていない場合は0
      */
     public long getElapsedTime() {
-        long startTime = plugin.getConfigManager().getGameStartTime();
-        if (startTime <= 0) {
-            return 0;
-        }
-        return System.currentTimeMillis() - startTime;
+        return timerState.elapsedNanos() / 1_000_000L;
+    }
+
+    /**
+     * 現在の経過時間をナノ秒で取得（単調時計による計測値）
+     * @return 経過時間（ナノ秒）、タイマーが開始されていない場合は0
+     */
+    public long getElapsedNanos() {
+        return timerState.elapsedNanos();
+    }
+
+    /**
+     * 現在のゲーム内時間（IGT）をtick数で取得
+     * サーバーが処理したtick数で数えるため、サーバー停止中や高負荷時の遅れは含まれない
+     * @return 経過tick数、タイマーが開始されていない場合は0
+     */
+    public long getIgtTicks() {
+        return timerState.igtTicks();
+    }
+
+    /**
+     * 現在のゲーム内時間（IGT）をミリ秒で取得（1tick = 50ms換算）
+     * @return 経過時間（ミリ秒）、タイマーが開始されていない場合は0
+     */
+    public long getIgtTime() {
+        return timerState.igtTicks() * 50L;
     }
 
     /**
@@ -58,7 +92,7 @@ public class TimeManager {
      * @return 経過時間（ミリ秒）
      */
     public long getElapsedTimeAt(long endTime) {
-        long startTime = plugin.getConfigManager().getGameStartTime();
+        long startTime = timerState.startTime();
         if (startTime <= 0 || endTime <= 0) {
             return 0;
         }
@@ -66,22 +100,34 @@ public class TimeManager {
     }
 
     /**
-     * チームの完了時間を記録し、経過時間を返す
+     * チームの完了時間を計測する
      * @param teamName チーム名
-     * @return 経過時間（ミリ秒）
+     * @return 完了記録（順位は未設定）
      */
-    public long recordCompletion(String teamName) {
-        long endTime = System.currentTimeMillis();
-        long elapsed = getElapsedTimeAt(endTime);
-        plugin.getLogger().info("Team " + teamName + " completed at: " + endTime + " (elapsed: " + TimeUtil.formatTime(elapsed) + ")");
-        return elapsed;
+    public CompletionRecord recordCompletion(String teamName) {
+        TimerState state = timerState;
+        long elapsedNanos = state.elapsedNanos();
+        long igtTicks = state.igtTicks();
+        int tick = Bukkit.getCurrentTick();
+        long elapsed = elapsedNanos / 1_000_000L;
+        plugin.getLogger().info("Team " + teamName + " completed at tick " + tick
+                + " (elapsed: " + TimeUtil.formatTime(elapsed) + ", " + elapsedNanos + "ns, IGT: " + igtTicks + " ticks)");
+        return new CompletionRecord(teamName, elapsed, elapsedNanos, tick, igtTicks, 0);
     }
 
     /**
      * タイマーが動作中か確認
      */
     public boolean isTimerRunning() {
-        return plugin.getConfigManager().getGameStartTime() > 0;
+        return timerState.running();
+    }
+
+    /**
+     * ゲームの開始時刻を取得
+     * @return 開始時刻（ミリ秒）、タイマーが開始されていない場合は0
+     */
+    public long getGameStartTime() {
+        return timerState.startTime();
     }
 
     /**
@@ -89,16 +135,32 @@ public class TimeManager {
      */
     public void resetTimer() {
         stopUpdateTask();
+        timerState = TimerState.STOPPED;
         plugin.getConfigManager().setGameStartTime(0);
+        plugin.getConfigManager().setGameIgtTicks(0);
         plugin.getLogger().info("Game timer reset");
     }
 
     /**
-     * アクションバー更新タスクを開始
+     * 表示更新タスク（アクションバーまたはBossBar）とIGTのチェックポイントタスクを開始
      */
     public void startUpdateTask() {
         if (updateTask != null) {
             updateTask.cancel();
+            updateTask = null;
+        }
+        if (checkpointTask != null) {
+            checkpointTask.cancel();
+        }
+        checkpointTask = Bukkit.getScheduler().runTaskTimer(plugin, this::checkpointIgt,
+                IGT_CHECKPOINT_INTERVAL, IGT_CHECKPOINT_INTERVAL);
+
+        // BossBarモードではチームごとのBossBarを毎秒更新する
+        if (plugin.getConfigManager().isBossBarEnabled()) {
+            bossBars.stop();
+            bossBars.start(plugin.getTeamManager().getAllTeams());
+            updateTask = Bukkit.getScheduler().runTaskTimer(plugin, this::updateBossBars, 0L, 20L);
+            return;
         }
 
         if (!plugin.getConfigManager().isShowActionbar()) {
@@ -106,17 +168,33 @@ public class TimeManager {
         }
 
         int interval = plugin.getConfigManager().getTimeUpdateInterval();
+        actionBarRenderer.invalidate();
         updateTask = Bukkit.getScheduler().runTaskTimer(plugin, this::updateActionBars, interval, interval);
     }
 
     /**
-     * アクションバー更新タスクを停止
+     * 表示更新タスクとIGTのチェックポイントタスクを停止（停止時点のIGTを保存）
      */
     public void stopUpdateTask() {
         if (updateTask != null) {
             updateTask.cancel();
             updateTask = null;
         }
+        bossBars.stop();
+        if (checkpointTask != null) {
+            checkpointTask.cancel();
+            checkpointTask = null;
+            checkpointIgt();
+        }
+    }
+
+    /**
+     * 現在のIGTをConfigに保存（再起動後はこの値から計測を再開する）
+     */
+    private void checkpointIgt() {
+        if (timerState.running()) {
+            plugin.getConfigManager().setGameIgtTicks(timerState.igtTicks());
+        }
     }
 
     /**
@@ -128,18 +206,31 @@ public class TimeManager {
             return;
         }
 
-        String timeStr = TimeUtil.formatTimeShort(elapsed);
-        String message = "⏱ " + timeStr;
+        // ゲームに参加している全プレイヤーにアクションバーを表示（表示が変わった時のみ送信）
+        long igtElapsed = plugin.getConfigManager().isShowIgt() ? getIgtTime() : -1;
+        actionBarRenderer.render(plugin.getTeamManager().getAllTeams(), elapsed, igtElapsed);
+    }
 
-        // ゲームに参加している全プレイヤーにアクションバーを表示
-        for (Team team : plugin.getTeamManager().getAllTeams()) {
-            for (UUID memberId : team.getMembers()) {
-                Player player = Bukkit.getPlayer(memberId);
-                if (player != null && player.isOnline()) {
-                    MessageUtil.showActionBar(player, message);
-                }
-            }
-        }
+    /**
+     * 全チームのBossBarを更新
+     */
+    private void updateBossBars() {
+        long igtElapsed = plugin.getConfigManager().isShowIgt() ? getIgtTime() : -1;
+        bossBars.update(plugin.getTeamManager().getAllTeams(), getElapsedTime(), igtElapsed);
+    }
+
+    /**
+     * チームごとのBossBar表示を取得
+     */
+    public TimerBossBars getBossBars() {
+        return bossBars;
+    }
+
+    /**
+     * アクションバーの差分送信の状態を取得（送信数・省略数の確認用）
+     */
+    public ActionBarRenderer getActionBarRenderer() {
+        return actionBarRenderer;
     }
 
     /**
@@ -147,10 +238,59 @@ public class TimeManager {
      * （ゲームが進行中の場合）
      */
     public void resumeIfRunning() {
-        long startTime = plugin.getConfigManager().getGameStartTime();
-        if (startTime > 0) {
-            plugin.getLogger().info("Resuming game timer from: " + startTime + " (elapsed: " + TimeUtil.formatTime(getElapsedTime()) + ")");
+        timerState = TimerState.fromStartTime(plugin.getConfigManager().getGameStartTime(),
+                plugin.getConfigManager().getGameIgtTicks());
+        if (timerState.running()) {
+            plugin.getLogger().info("Resuming game timer from: " + timerState.startTime() + " (elapsed: " + TimeUtil.formatTime(getElapsedTime())
+                    + ", IGT: " + timerState.igtBaseTicks() + " ticks)");
             startUpdateTask();
         }
     }
+
+    /**
+     * タイマーの状態
+     *
+     * @param startTime   開始時刻（エポックミリ秒、永続化される値）
+     * @param anchorNanos 開始時刻に対応するSystem.nanoTime()の値（経過時間の計算に使用）
+     * @param igtBaseTicks  計測再開時点までのIGT（tick数、永続化される値）
+     * @param igtAnchorTick 計測再開時点のサーバーtick番号
+     * @param running     タイマーが動作中か
+     */
+    private record TimerState(long startTime, long anchorNanos, long igtBaseTicks, int igtAnchorTick, boolean running) {
+        static final TimerState STOPPED = new TimerState(0, 0, 0, 0, false);
+
+        /**
+         * 現在時刻で開始した状態を作成
+         */
+        static TimerState started() {
+            return new TimerState(System.currentTimeMillis(), System.nanoTime(), 0, Bukkit.getCurrentTick(), true);
+        }
+
+        /**
+         * 保存された開始時刻から状態を復元（再起動後は現在時刻との差からアンカーを逆算する）
+         * IGTは保存されたtick数から数え直す（サーバー停止中の時間は含めない）
+         */
+        static TimerState fromStartTime(long startTime, long igtTicks) {
+            if (startTime <= 0) {
+                return STOPPED;
+            }
+            long elapsedMillis = System.currentTimeMillis() - startTime;
+            return new TimerState(startTime, System.nanoTime() - elapsedMillis * 1_000_000L,
+                    igtTicks, Bukkit.getCurrentTick(), true);
+        }
+
+        long igtTicks() {
+            if (!running) {
+                return 0;
+            }
+            return igtBaseTicks + Math.max(0, Bukkit.getCurrentTick() - igtAnchorTick);
+        }
+
+        long elapsedNanos() {
+            if (!running) {
+                return 0;
+            }
+            return System.nanoTime() - anchorNanos;
+        }
+    }
 }
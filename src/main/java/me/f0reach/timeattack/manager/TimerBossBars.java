@@ -0,0 +1,186 @@
+package me.f0reach.timeattack.manager;
+
+import me.f0reach.timeattack.PluginMain;
+import me.f0reach.timeattack.model.GameState;
+import me.f0reach.timeattack.model.Team;
+import me.f0reach.timeattack.util.TimeUtil;
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * チームごとに1つのBossBarでタイマーを表示するクラス
+ * メンバーは参加・退出・チーム変更時にBossBarへ追加・削除され、
+ * 毎秒の更新ではBossBarの名前と進行度のみを書き換える（プレイヤーごとの処理はない）
+ */
+public class TimerBossBars {
+    private final PluginMain plugin;
+    private final Map<String, BossBar> bars;
+    private final Set<String> completedBars;
+    private final StringBuilder text = new StringBuilder(32);
+    private boolean active;
+
+    // 全チーム共通の表示（秒が変わった時のみ作り直す）
+    private long lastSecond = -1;
+    private Component runningName;
+
+    public TimerBossBars(PluginMain plugin) {
+        this.plugin = plugin;
+        this.bars = new HashMap<>();
+        this.completedBars = new HashSet<>();
+    }
+
+    /**
+     * 表示を開始し、全チームのオンラインメンバーにBossBarを表示
+     */
+    public void start(Collection<Team> teams) {
+        active = true;
+        lastSecond = -1;
+        for (Team team : teams) {
+            team.audience().showBossBar(getOrCreateBar(team));
+        }
+    }
+
+    /**
+     * 表示を終了し、全てのBossBarを非表示にする
+     */
+    public void stop() {
+        if (!active) {
+            return;
+        }
+        active = false;
+        hideFromEveryone();
+        bars.clear();
+        completedBars.clear();
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * メンバーがオンラインになった・チームに加わった時にBossBarを表示
+     */
+    public void show(Team team, Player player) {
+        if (active) {
+            player.showBossBar(getOrCreateBar(team));
+        }
+    }
+
+    /**
+     * メンバーがオフラインになった・チームから外れた時にBossBarを非表示
+     */
+    public void hide(Team team, Player player) {
+        BossBar bar = bars.get(team.getName());
+        if (bar != null) {
+            player.hideBossBar(bar);
+        }
+    }
+
+    /**
+     * チームの削除時にBossBarを破棄
+     */
+    public void removeTeam(Team team) {
+        BossBar bar = bars.remove(team.getName());
+        completedBars.remove(team.getName());
+        if (bar != null) {
+            team.audience().hideBossBar(bar);
+        }
+    }
+
+    /**
+     * チームの所属が大きく変わった時（ロールバックなど）に表示を作り直す
+     */
+    public void resync(Collection<Team> teams) {
+        if (!active) {
+            return;
+        }
+        hideFromEveryone();
+        bars.clear();
+        completedBars.clear();
+        start(teams);
+    }
+
+    /**
+     * BossBarの名前と進行度を更新（1秒ごとに呼ばれる）
+     */
+    public void update(Collection<Team> teams, long elapsed, long igtElapsed) {
+        long second = elapsed / 1000;
+        if (second != lastSecond || runningName == null) {
+            lastSecond = second;
+            text.setLength(0);
+            TimeUtil.appendTimeShort(text.append("⏱ "), elapsed);
+            if (igtElapsed >= 0) {
+                TimeUtil.appendTimeShort(text.append(" (IGT "), igtElapsed).append(')');
+            }
+            runningName = Component.text(text.toString()).color(NamedTextColor.WHITE);
+        }
+
+        boolean showProgress = plugin.getConfigManager().isBossBarSplitProgress();
+        int splitTotal = plugin.getSplitManager().getSplitCount();
+        for (Team team : teams) {
+            BossBar bar = bars.get(team.getName());
+            if (bar == null) {
+                continue;
+            }
+
+            if (team.getState() == GameState.COMPLETED) {
+                // クリアタイムは変わらないため最初の1回だけ設定する
+                if (!completedBars.add(team.getName())) {
+                    continue;
+                }
+                bar.name(Component.text("クリア！ " + TimeUtil.formatTime(team.getCompletionTime()))
+                        .color(NamedTextColor.GOLD));
+                bar.progress(1.0f);
+                continue;
+            }
+
+            bar.name(runningName);
+            if (showProgress && splitTotal > 0) {
+                bar.progress(Math.min(1.0f, (float) team.getSplits().size() / splitTotal));
+            }
+        }
+    }
+
+    private BossBar getOrCreateBar(Team team) {
+        return bars.computeIfAbsent(team.getName(), name -> BossBar.bossBar(
+                runningName != null ? runningName : Component.text("⏱ 00:00"),
+                plugin.getConfigManager().isBossBarSplitProgress() ? 0.0f : 1.0f,
+                toBarColor(team.getColor()),
+                BossBar.Overlay.PROGRESS));
+    }
+
+    private void hideFromEveryone() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            for (BossBar bar : bars.values()) {
+                player.hideBossBar(bar);
+            }
+        }
+    }
+
+    /**
+     * チームカラーに近いBossBarの色を取得
+     */
+    private static BossBar.Color toBarColor(String colorName) {
+        if (colorName == null) {
+            return BossBar.Color.WHITE;
+        }
+        return switch (colorName.toUpperCase()) {
+            case "RED", "DARK_RED" -> BossBar.Color.RED;
+            case "BLUE", "DARK_BLUE", "AQUA", "DARK_AQUA" -> BossBar.Color.BLUE;
+            case "GREEN", "DARK_GREEN" -> BossBar.Color.GREEN;
+            case "YELLOW", "GOLD" -> BossBar.Color.YELLOW;
+            case "LIGHT_PURPLE" -> BossBar.Color.PINK;
+            case "DARK_PURPLE" -> BossBar.Color.PURPLE;
+            default -> BossBar.Color.WHITE;
+        };
+    }
+}
@@ -0,0 +1,332 @@
+package me.f0reach.timeattack.manager;
+
+import me.f0reach.timeattack.PluginMain;
+import me.f0reach.timeattack.model.Team;
+import me.f0reach.timeattack.model.WorldCreationJob;
+import me.f0reach.timeattack.model.WorldSet;
+import me.f0reach.timeattack.util.MessageUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+
+/**
+ * ワールドセット作成ジョブのキュー
+ * ワールドの作成はメインスレッドでしか行えないため、1回の進行で各ジョブのワールドを1つずつ作成し、
+ * 1セット分の作成でサーバーが長時間停止しないようにする
+ * テンプレートからのコピーはバックグラウンドで行われ、完了するまでそのジョブは次のワールドに進まない
+ */
+public class WorldCreationQueue {
+    // 状態確認用に保持する終了済みジョブの数
+    private static final int FINISHED_HISTORY = 20;
+
+    private final PluginMain plugin;
+    private final Deque<WorldCreationJob> pending;
+    private final List<WorldCreationJob> active;
+    private final Map<Integer, WorldCreationJob> jobs; // id -> ジョブ（作成順）
+    private final Map<WorldCreationJob, World.Environment> inFlight; // 作成が完了していないワールド
+    private int nextId;
+    private BukkitTask task;
+
+    public WorldCreationQueue(PluginMain plugin) {
+        this.plugin = plugin;
+        this.pending = new ArrayDeque<>();
+        this.active = new ArrayList<>();
+        this.jobs = new LinkedHashMap<>();
+        this.inFlight = new HashMap<>();
+        this.nextId = 1;
+    }
+
+    /**
+     * チームのワールドセット作成をキューに追加
+     *
+     * @param requester 進捗の通知先（コンソールの場合はnullでもよい）
+     * @return 追加されたジョブ
+     */
+    public WorldCreationJob enqueue(String teamName, long seed, CommandSender requester) {
+        UUID requesterId = requester instanceof Player player ? player.getUniqueId() : null;
+        WorldCreationJob job = new WorldCreationJob(nextId++, new WorldSet(teamName, seed), requesterId);
+        jobs.put(job.getId(), job);
+        pending.add(job);
+        trimHistory();
+        ensureRunning();
+        return job;
+    }
+
+    /**
+     * プール用のワールドセットの作成をキューに追加（名前はワールドセットのチーム名として扱う）
+     */
+    WorldCreationJob enqueuePooled(WorldSet worldSet) {
+        WorldCreationJob job = new WorldCreationJob(nextId++, worldSet, null, true);
+        jobs.put(job.getId(), job);
+        pending.add(job);
+        trimHistory();
+        ensureRunning();
+        return job;
+    }
+
+    /**
+     * チームの作成待ち・作成中のジョブを取得
+     */
+    public WorldCreationJob getPendingJob(String teamName) {
+        for (WorldCreationJob job : jobs.values()) {
+            if (!job.isFinished() && job.getTeamName().equals(teamName)) {
+                return job;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * IDからジョブを取得（終了済みのジョブは直近のもののみ）
+     */
+    public WorldCreationJob getJob(int id) {
+        return jobs.get(id);
+    }
+
+    /**
+     * 保持している全ジョブを取得
+     */
+    public List<WorldCreationJob> getJobs() {
+        return new ArrayList<>(jobs.values());
+    }
+
+    /**
+     * 作成待ち・作成中のジョブがあるか確認
+     */
+    public boolean isBusy() {
+        return !pending.isEmpty() || !active.isEmpty();
+    }
+
+    /**
+     * キューを停止し、作成途中のワールドを削除する（プラグイン無効化時）
+     */
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        for (WorldCreationJob job : active) {
+            plugin.getWorldSetManager().rollbackWorldSet(job.getWorldSet(), job.getCreatedCount());
+            // コピー済みでインポートされていないフォルダを削除（コピーはWorldSetManagerの停止時に完了を待つ）
+            World.Environment environment = inFlight.get(job);
+            if (environment != null) {
+                plugin.getWorldTrash().discard(job.getWorldSet().getWorldName(environment));
+            }
+            job.setState(WorldCreationJob.State.FAILED);
+            job.setFailureReason("server shutdown");
+        }
+        for (WorldCreationJob job : pending) {
+            job.setState(WorldCreationJob.State.FAILED);
+            job.setFailureReason("server shutdown");
+        }
+        if (isBusy()) {
+            plugin.getLogger().warning("Cancelled " + (active.size() + pending.size()) + " world creation job(s) on shutdown");
+        }
+        active.clear();
+        pending.clear();
+        inFlight.clear();
+    }
+
+    private void ensureRunning() {
+        if (task != null) {
+            return;
+        }
+        long interval = Math.max(1, plugin.getConfigManager().getWorldCreationInterval());
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, interval);
+    }
+
+    /**
+     * 同時作成数まで作成待ちのジョブを開始し、作成中の各ジョブを1段階進める
+     */
+    private void tick() {
+        int maxConcurrent = Math.max(1, plugin.getConfigManager().getMaxConcurrentWorldCreations());
+        while (active.size() < maxConcurrent && !pending.isEmpty()) {
+            WorldCreationJob job = pending.poll();
+            if (start(job)) {
+                active.add(job);
+            }
+        }
+
+        Iterator<WorldCreationJob> it = active.iterator();
+        while (it.hasNext()) {
+            WorldCreationJob job = it.next();
+            advance(job);
+            if (job.isFinished()) {
+                it.remove();
+            }
+        }
+
+        if (!isBusy()) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * ジョブを開始できるか確認（キュー投入後にチームが削除・作成済みになった場合は失敗とする）
+     */
+    private boolean start(WorldCreationJob job) {
+        if (job.isPooled()) {
+            job.setState(WorldCreationJob.State.CREATING);
+            return true;
+        }
+
+        Team team = plugin.getTeamManager().getTeam(job.getTeamName());
+        if (team == null) {
+            fail(job, "チーム「" + job.getTeamName() + "」が削除されました");
+            return false;
+        }
+        if (team.hasWorldSet()) {
+            fail(job, "チーム「" + job.getTeamName() + "」のワールドは既に作成されています");
+            return false;
+        }
+
+        job.setState(WorldCreationJob.State.CREATING);
+        notifyInfo(job, "チーム「" + job.getTeamName() + "」のワールド作成を開始しました (シード: "
+                + job.getWorldSet().getSeed() + ")");
+        return true;
+    }
+
+    /**
+     * ワールドを1つ作成し、全て作成したらチームに登録する（作成中のワールドがある場合は何もしない）
+     */
+    private void advance(WorldCreationJob job) {
+        if (inFlight.containsKey(job)) {
+            return;
+        }
+
+        World.Environment environment = job.getNextEnvironment(WorldSetManager.CREATION_ORDER);
+        if (environment == null) {
+            complete(job);
+            return;
+        }
+
+        inFlight.put(job, environment);
+        plugin.getWorldSetManager().createWorld(job.getWorldSet(), environment).whenComplete((created, error) -> {
+            inFlight.remove(job);
+            // 停止時に中止されたジョブ
+            if (job.isFinished()) {
+                return;
+            }
+            if (error != null || !Boolean.TRUE.equals(created)) {
+                plugin.getWorldSetManager().rollbackWorldSet(job.getWorldSet(), job.getCreatedCount());
+                fail(job, getEnvironmentDisplayName(environment) + "の作成に失敗しました");
+                return;
+            }
+
+            job.setCreatedCount(job.getCreatedCount() + 1);
+            notifyInfo(job, getEnvironmentDisplayName(environment) + "を作成しました ("
+                    + job.getCreatedCount() + "/" + WorldSetManager.CREATION_ORDER.length + ")");
+            if (job.getCreatedCount() == WorldSetManager.CREATION_ORDER.length) {
+                complete(job);
+            }
+        });
+    }
+
+    /**
+     * 全てのワールドを作成したジョブのワールドセットをプールまたはチームに登録する
+     */
+    private void complete(WorldCreationJob job) {
+        WorldSetManager worldSetManager = plugin.getWorldSetManager();
+
+        if (job.isPooled()) {
+            job.setState(WorldCreationJob.State.COMPLETED);
+            plugin.getWorldSetPool().add(job.getWorldSet());
+            return;
+        }
+
+        // 作成中にチームが削除された場合は作成したワールドを削除する
+        if (plugin.getTeamManager().getTeam(job.getTeamName()) == null) {
+            worldSetManager.rollbackWorldSet(job.getWorldSet(), job.getCreatedCount());
+            fail(job, "チーム「" + job.getTeamName() + "」が削除されました");
+            return;
+        }
+
+        WorldSet worldSet = job.getWorldSet();
+        worldSetManager.registerWorldSet(worldSet);
+        plugin.getTeamManager().setTeamWorldSet(job.getTeamName(), worldSet);
+        job.setState(WorldCreationJob.State.COMPLETED);
+        plugin.getLogger().info("Successfully created world set for team: " + job.getTeamName()
+                + " (job #" + job.getId() + ")");
+
+        Player player = getRequester(job);
+        if (player != null) {
+            MessageUtil.sendSuccess(player, "[#" + job.getId() + "] チーム「" + job.getTeamName() + "」のワールドを作成しました");
+            MessageUtil.sendInfo(player, "  オーバーワールド: " + worldSet.getOverworldName());
+            MessageUtil.sendInfo(player, "  ネザー: " + worldSet.getNetherName());
+            MessageUtil.sendInfo(player, "  エンド: " + worldSet.getEndName());
+        }
+    }
+
+    private void fail(WorldCreationJob job, String reason) {
+        job.setState(WorldCreationJob.State.FAILED);
+        job.setFailureReason(reason);
+        plugin.getLogger().warning("World creation job #" + job.getId() + " for " + job.getTeamName() + " failed");
+
+        Player player = getRequester(job);
+        if (player != null) {
+            MessageUtil.sendError(player, "[#" + job.getId() + "] ワールドの作成に失敗しました: " + reason);
+        }
+    }
+
+    private void notifyInfo(WorldCreationJob job, String message) {
+        Player player = getRequester(job);
+        if (player != null) {
+            MessageUtil.sendInfo(player, "[#" + job.getId() + "] " + message);
+        }
+    }
+
+    /**
+     * 進捗の通知先（オフラインまたはコンソールの場合はnull、コンソールにはログが出力される）
+     */
+    private Player getRequester(WorldCreationJob job) {
+        return job.getRequesterId() != null ? Bukkit.getPlayer(job.getRequesterId()) : null;
+    }
+
+    /**
+     * 終了済みのジョブを古い順に破棄する
+     */
+    private void trimHistory() {
+        int finished = 0;
+        for (WorldCreationJob job : jobs.values()) {
+            if (job.isFinished()) {
+                finished++;
+            }
+        }
+        Iterator<WorldCreationJob> it = jobs.values().iterator();
+        while (finished > FINISHED_HISTORY && it.hasNext()) {
+            if (it.next().isFinished()) {
+                it.remove();
+                finished--;
+            }
+        }
+    }
+
+    /**
+     * 環境タイプの表示名
+     */
+    public static String getEnvironmentDisplayName(World.Environment environment) {
+        return switch (environment) {
+            case NORMAL -> "オーバーワールド";
+            case NETHER -> "ネザー";
+            case THE_END -> "エンド";
+            default -> environment.name();
+        };
+    }
+
+    /**
+     * ジョブの状態表示（例: "作成中 2/3"）
+     */
+    public static String getStateDisplayName(WorldCreationJob job) {
+        return switch (job.getState()) {
+            case QUEUED -> "待機中";
+            case CREATING -> "作成中 " + job.getCreatedCount() + "/" + WorldSetManager.CREATION_ORDER.length;
+            case COMPLETED -> "完了";
+            case FAILED -> "失敗";
+        };
+    }
+}
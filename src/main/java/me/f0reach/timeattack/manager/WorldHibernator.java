@@ -0,0 +1,90 @@
+package me.f0reach.timeattack.manager;
+
+import me.f0reach.timeattack.PluginMain;
+import me.f0reach.timeattack.model.GameState;
+import me.f0reach.timeattack.model.Team;
+import me.f0reach.timeattack.model.WorldSet;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 使われていないチームのワールドをアンロードするクラス
+ * ネザーとエンドはプレイヤーがいない状態が一定時間続くとアンロードし、
+ * 完了したチームはオーバーワールドも含めて全てアンロードする（再び入るときに読み込まれる）
+ */
+public class WorldHibernator {
+    // 確認間隔（tick）
+    private static final long CHECK_INTERVAL = 200L;
+
+    private final PluginMain plugin;
+    private final Map<UUID, Long> idleSince; // worldUID -> プレイヤーがいなくなった時刻
+    private BukkitTask task;
+
+    public WorldHibernator(PluginMain plugin) {
+        this.plugin = plugin;
+        this.idleSince = new HashMap<>();
+    }
+
+    /**
+     * 確認を開始（休止が無効の場合は何もしない）
+     */
+    public void start() {
+        stop();
+        if (plugin.getConfigManager().getHibernateIdleSeconds() <= 0) {
+            return;
+        }
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::check, CHECK_INTERVAL, CHECK_INTERVAL);
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        idleSince.clear();
+    }
+
+    private void check() {
+        // 開始時のテレポート中はアンロードしない
+        if (plugin.getStartTeleporter().isActive()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long timeoutMillis = plugin.getConfigManager().getHibernateIdleSeconds() * 1000L;
+
+        for (Team team : plugin.getTeamManager().getAllTeams()) {
+            WorldSet worldSet = team.getWorldSet();
+            if (worldSet == null) {
+                continue;
+            }
+
+            boolean completed = team.getState() == GameState.COMPLETED;
+            for (World.Environment environment : WorldSetManager.CREATION_ORDER) {
+                if (environment == World.Environment.NORMAL && !completed) {
+                    continue;
+                }
+                World world = worldSet.getWorld(environment);
+                if (world == null) {
+                    continue;
+                }
+
+                if (!world.getPlayers().isEmpty()) {
+                    idleSince.remove(world.getUID());
+                    continue;
+                }
+
+                long since = idleSince.computeIfAbsent(world.getUID(), uid -> now);
+                if (now - since >= timeoutMillis && plugin.getWorldSetManager().unloadWorld(world)) {
+                    idleSince.remove(world.getUID());
+                    plugin.getLogger().info("Hibernated idle world " + world.getName() + " of team " + team.getName());
+                }
+            }
+        }
+    }
+}
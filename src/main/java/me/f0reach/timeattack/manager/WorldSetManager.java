@@ -2,29 +2,67 @@ package me.f0reach.timeattack.manager;
 
 import me.f0reach.timeattack.PluginMain;
 import me.f0reach.timeattack.model.WorldSet;
+import me.f0reach.timeattack.util.WorldFiles;
+import org.bukkit.Bukkit;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.mvplugins.multiverse.core.MultiverseCoreApi;
 import org.mvplugins.multiverse.core.world.LoadedMultiverseWorld;
+import org.mvplugins.multiverse.core.world.MultiverseWorld;
 import org.mvplugins.multiverse.core.world.WorldManager;
 import org.mvplugins.multiverse.core.world.options.CreateWorldOptions;
-import org.mvplugins.multiverse.core.world.options.DeleteWorldOptions;
-
-import java.util.HashMap;
-import java.util.Map;
+import org.mvplugins.multiverse.core.world.options.ImportWorldOptions;
+import org.mvplugins.multiverse.core.world.options.RemoveWorldOptions;
+import org.mvplugins.multiverse.core.world.options.UnloadWorldOptions;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
 /**
  * Multiverse Core APIを使用してワールドセットを管理するクラス
+ * ワールド名・ワールドUIDからの検索は索引を使いO(1)で行う（他プラグインから非同期に呼ばれてもよい）
  */
 public class WorldSetManager {
+    /**
+     * ワールドセットを構成するワールドの作成順
+     */
+    public static final World.Environment[] CREATION_ORDER = {
+            World.Environment.NORMAL, World.Environment.NETHER, World.Environment.THE_END
+    };
+
     private final PluginMain plugin;
     private final Map<String, WorldSet> worldSets; // teamName -> WorldSet
+    private final Map<String, WorldSet> worldSetsByWorldName; // worldName -> WorldSet
+    private final Map<UUID, WorldSet> worldSetsByWorldUid; // worldUID -> WorldSet（ロード済みワールドのみ、検索時に登録）
+    private final ExecutorService ioExecutor; // テンプレートのコピーなどのファイル操作用
+    private final Executor mainThread;
     private MultiverseCoreApi mvApi;
 
     public WorldSetManager(PluginMain plugin) {
         this.plugin = plugin;
         this.worldSets = new HashMap<>();
+        this.worldSetsByWorldName = new ConcurrentHashMap<>();
+        this.worldSetsByWorldUid = new ConcurrentHashMap<>();
+        this.ioExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "TimeAttack-WorldCopy");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 無効化後は実行しない（スケジューラに登録できないため）
+        this.mainThread = task -> {
+            if (plugin.isEnabled()) {
+                Bukkit.getScheduler().runTask(plugin, task);
+            }
+        };
     }
 
     /**
@@ -48,95 +86,371 @@ public class WorldSetManager {
     }
 
     /**
-     * チーム用のワールドセットを作成
-     *
-     * @param teamName チーム名（ワールド名のプレフィックスになる）
-     * @param seed     ワールドのシード値
-     * @return 作成されたWorldSet、失敗時はnull
+     * ファイル操作のスレッドを停止（実行中のコピーは少し待つ）
      */
-    public WorldSet createWorldSet(String teamName, long seed) {
-        if (mvApi == null) {
-            plugin.getLogger().severe("Multiverse-Core is not initialized!");
-            return null;
+    public void shutdown() {
+        ioExecutor.shutdown();
+        try {
+            if (!ioExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                ioExecutor.shutdownNow();
+                plugin.getLogger().warning("Interrupted unfinished world folder copies on shutdown");
+            }
+        } catch (InterruptedException e) {
+            ioExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
         }
+    }
 
-        WorldManager worldManager = mvApi.getWorldManager();
-        WorldSet worldSet = new WorldSet(teamName, seed);
-        boolean generateStructures = plugin.getConfigManager().isGenerateStructures();
+    /**
+     * ファイル操作用のExecutor（1スレッドで順に実行する）
+     */
+    public Executor getIoExecutor() {
+        return ioExecutor;
+    }
 
+    /**
+     * メインスレッドで実行するExecutor（プラグインの無効化後は実行しない）
+     */
+    public Executor getMainThreadExecutor() {
+        return mainThread;
+    }
+
+    /**
+     * ワールドセットのうち1つのワールドを作成（段階的な作成用、メインスレッドで呼ぶこと）
+     * テンプレートが有効な場合やシードのテンプレートがキャッシュ済みの場合は、テンプレートをバックグラウンドでコピーし、
+     * メインスレッドでMultiverseにインポートする
+     * 遅延読み込みが有効な場合、ネザーとエンドは作成後にアンロードし、初めて入るときに読み込む
+     *
+     * @return 作成成功の場合trueで完了するFuture（メインスレッドで完了する）
+     */
+    public CompletableFuture<Boolean> createWorld(WorldSet worldSet, World.Environment environment) {
+        return createOrCloneWorld(worldSet, environment).thenApply(created -> {
+            if (created && environment != World.Environment.NORMAL && plugin.getConfigManager().isLazyLoadDimensions()) {
+                World world = worldSet.getWorld(environment);
+                if (world != null) {
+                    unloadWorld(world);
+                }
+            }
+            return created;
+        });
+    }
+
+    /**
+     * ワールドセットのワールドを取得し、アンロードされている場合は読み込む
+     *
+     * @return 読み込まれたワールド、失敗時はnull
+     */
+    public World loadWorld(WorldSet worldSet, World.Environment environment) {
+        World world = worldSet.getWorld(environment);
+        if (world != null || mvApi == null) {
+            return world;
+        }
+
+        String worldName = worldSet.getWorldName(environment);
         try {
-            // オーバーワールド作成
-            plugin.getLogger().info("Creating overworld: " + worldSet.getOverworldName());
-            var overworldResult = worldManager.createWorld(
-                    CreateWorldOptions.worldName(worldSet.getOverworldName())
-                            .environment(World.Environment.NORMAL)
-                            .seed(seed)
-                            .generateStructures(generateStructures));
-
-            if (overworldResult.isFailure()) {
-                plugin.getLogger().severe("Failed to create overworld: " + overworldResult.getFailureReason());
+            WorldManager worldManager = mvApi.getWorldManager();
+            var worldOpt = worldManager.getWorld(worldName);
+            if (worldOpt.isEmpty()) {
+                plugin.getLogger().warning("World is not registered with Multiverse: " + worldName);
                 return null;
             }
 
-            // ネザー作成
-            plugin.getLogger().info("Creating nether: " + worldSet.getNetherName());
-            var netherResult = worldManager.createWorld(
-                    CreateWorldOptions.worldName(worldSet.getNetherName())
-                            .environment(World.Environment.NETHER)
-                            .seed(seed)
-                            .generateStructures(generateStructures));
-
-            if (netherResult.isFailure()) {
-                plugin.getLogger().severe("Failed to create nether: " + netherResult.getFailureReason());
-                // クリーンアップ：作成済みのオーバーワールドを削除
-                deleteWorld(worldSet.getOverworldName());
+            long startNanos = System.nanoTime();
+            var result = worldManager.loadWorld(worldOpt.get());
+            if (result.isFailure()) {
+                plugin.getLogger().severe("Failed to load world " + worldName + ": " + result.getFailureReason());
                 return null;
             }
+            plugin.getLogger().info("Loaded world " + worldName + " in "
+                    + (System.nanoTime() - startNanos) / 1_000_000 + " ms");
+            return worldSet.getWorld(environment);
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Exception while loading world: " + worldName, e);
+            return null;
+        }
+    }
 
-            // エンド作成
-            plugin.getLogger().info("Creating end: " + worldSet.getEndName());
-            var endResult = worldManager.createWorld(
-                    CreateWorldOptions.worldName(worldSet.getEndName())
-                            .environment(World.Environment.THE_END)
-                            .seed(seed)
-                            .generateStructures(generateStructures));
-
-            if (endResult.isFailure()) {
-                plugin.getLogger().severe("Failed to create end: " + endResult.getFailureReason());
-                // クリーンアップ
-                deleteWorld(worldSet.getOverworldName());
-                deleteWorld(worldSet.getNetherName());
-                return null;
+    /**
+     * ワールドを保存してアンロードする（Multiverseの登録とファイルは残す）
+     *
+     * @return アンロード成功の場合true
+     */
+    public boolean unloadWorld(World world) {
+        return unloadWorld(world, true);
+    }
+
+    private boolean unloadWorld(World world, boolean save) {
+        if (mvApi == null) {
+            return false;
+        }
+
+        try {
+            WorldManager worldManager = mvApi.getWorldManager();
+            var worldOpt = worldManager.getLoadedWorld(world.getName());
+            if (worldOpt.isEmpty()) {
+                return false;
+            }
+
+            var result = worldManager.unloadWorld(UnloadWorldOptions.world(worldOpt.get()).saveBukkitWorld(save));
+            if (result.isFailure()) {
+                plugin.getLogger().warning("Failed to unload world " + world.getName() + ": " + result.getFailureReason());
+                return false;
+            }
+            return true;
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING, "Exception while unloading world: " + world.getName(), e);
+            return false;
+        }
+    }
+
+    private CompletableFuture<Boolean> createOrCloneWorld(WorldSet worldSet, World.Environment environment) {
+        if (mvApi == null) {
+            plugin.getLogger().severe("Multiverse-Core is not initialized!");
+            return CompletableFuture.completedFuture(false);
+        }
+
+        String worldName = worldSet.getWorldName(environment);
+        try {
+            // キャッシュ済みのシードはテンプレートが無効でもコピーで作成する
+            if (plugin.getConfigManager().isWorldTemplateEnabled()
+                    || plugin.getTemplateCache().contains(worldSet.getSeed())) {
+                return cloneFromTemplate(worldSet, environment);
             }
 
-            // 成功：ワールドセットを登録
-            worldSets.put(teamName, worldSet);
-            plugin.getLogger().info("Successfully created world set for team: " + teamName);
+            plugin.getLogger().info("Creating " + environment.name().toLowerCase() + " world: " + worldName);
+            var result = mvApi.getWorldManager().createWorld(
+                    CreateWorldOptions.worldName(worldName)
+                            .environment(environment)
+                            .seed(worldSet.getSeed())
+                            .generateStructures(plugin.getConfigManager().isGenerateStructures()));
 
-            return worldSet;
+            if (result.isFailure()) {
+                plugin.getLogger().severe("Failed to create " + worldName + ": " + result.getFailureReason());
+                return CompletableFuture.completedFuture(false);
+            }
+            return CompletableFuture.completedFuture(true);
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Exception while creating world " + worldName
+                    + " for " + worldSet.getTeamName(), e);
+            return CompletableFuture.completedFuture(false);
+        }
+    }
 
+    /**
+     * ワールドセットの各ワールドにMultiverseのエイリアスを設定（プールから割り当てた場合の表示名）
+     * 遅延読み込みでアンロードされているネザー・エンドにも設定する
+     */
+    public void setWorldSetAlias(WorldSet worldSet, String alias) {
+        if (mvApi == null) {
+            return;
+        }
+
+        try {
+            WorldManager worldManager = mvApi.getWorldManager();
+            for (World.Environment environment : CREATION_ORDER) {
+                var worldOpt = worldManager.getWorld(worldSet.getWorldName(environment));
+                if (worldOpt.isDefined()) {
+                    String suffix = environment == World.Environment.NORMAL ? ""
+                            : "_" + environment.name().toLowerCase();
+                    worldOpt.get().setAlias(alias + suffix);
+                }
+            }
+            worldManager.saveWorldsConfig();
         } catch (Exception e) {
-            plugin.getLogger().log(Level.SEVERE, "Exception while creating world set for " + teamName, e);
-            return null;
+            plugin.getLogger().log(Level.WARNING, "Failed to set world alias for team: " + alias, e);
         }
     }
 
     /**
-     * ワールドセットのスポーン位置に安全にテレポート
+     * ワールドセットを作成直後の状態に戻す（削除と再作成の代わりに使う）
+     * メインスレッドでワールドをアンロードし、バックグラウンドでフォルダをテンプレートのコピーに置き換えてから
+     * メインスレッドで再読み込みする。テンプレートが存在しない場合は先に生成する
+     *
+     * @return 成功した場合trueで完了するFuture（メインスレッドで完了する）
      */
-    public void teleportToWorldSetSpawn(WorldSet worldSet, World.Environment environment, Player player) {
-        var targetWorld = worldSet.getWorld(environment);
+    public CompletableFuture<Boolean> recycleWorldSet(WorldSet worldSet) {
+        if (mvApi == null || !canDeleteWorldSet(worldSet)) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        Map<World.Environment, CompletableFuture<Path>> templates = new EnumMap<>(World.Environment.class);
+        for (World.Environment environment : CREATION_ORDER) {
+            templates.put(environment, plugin.getTemplateCache().getTemplate(worldSet.getSeed(), environment));
+        }
+
+        return CompletableFuture.allOf(templates.values().toArray(new CompletableFuture[0]))
+                .thenCompose(ignored -> {
+                    Map<World.Environment, Path> sources = new EnumMap<>(World.Environment.class);
+                    for (World.Environment environment : CREATION_ORDER) {
+                        Path template = templates.get(environment).join();
+                        if (template == null) {
+                            return CompletableFuture.completedFuture(false);
+                        }
+                        sources.put(environment, template);
+                    }
+                    return replaceWorldSet(worldSet, sources);
+                });
+    }
+
+    /**
+     * ワールドセットをアンロードし、フォルダをテンプレートのコピーに置き換えてから再読み込みする（メインスレッドで呼ぶこと）
+     */
+    private CompletableFuture<Boolean> replaceWorldSet(WorldSet worldSet, Map<World.Environment, Path> templates) {
+        // テンプレートの生成中にプレイヤーが入った場合は中止する
+        if (!canDeleteWorldSet(worldSet)) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        // 変更を保存せずにアンロード（Multiverseへの登録は残す）
+        for (World.Environment environment : CREATION_ORDER) {
+            World world = worldSet.getWorld(environment);
+            if (world != null && !unloadWorld(world, false)) {
+                loadWorld(worldSet, World.Environment.NORMAL);
+                return CompletableFuture.completedFuture(false);
+            }
+        }
+        // 置き換え後のワールドは新しいUIDになる
+        worldSetsByWorldUid.values().removeIf(indexed -> indexed == worldSet);
+
+        List<CompletableFuture<Void>> copies = new ArrayList<>();
+        for (World.Environment environment : CREATION_ORDER) {
+            String worldName = worldSet.getWorldName(environment);
+            Path source = templates.get(environment);
+            copies.add(CompletableFuture.runAsync(() -> replaceWorldFolder(source, worldName), ioExecutor));
+        }
+
+        return CompletableFuture.allOf(copies.toArray(new CompletableFuture[0]))
+                .handleAsync((ignored, error) -> {
+                    if (error != null) {
+                        plugin.getLogger().log(Level.SEVERE, "Failed to restore world set of "
+                                + worldSet.getTeamName() + " from template", error);
+                    }
+
+                    // 遅延読み込みが有効な場合、ネザーとエンドは入るときに読み込まれる
+                    boolean loaded = loadWorld(worldSet, World.Environment.NORMAL) != null;
+                    if (!plugin.getConfigManager().isLazyLoadDimensions()) {
+                        loaded &= loadWorld(worldSet, World.Environment.NETHER) != null;
+                        loaded &= loadWorld(worldSet, World.Environment.THE_END) != null;
+                    }
+                    return error == null && loaded;
+                }, mainThread);
+    }
+
+    /**
+     * ワールドフォルダをゴミ箱へ移動し、テンプレートのコピーに置き換える（バックグラウンドで呼ぶ）
+     */
+    private void replaceWorldFolder(Path template, String worldName) {
+        if (!plugin.getWorldTrash().discard(worldName)) {
+            throw new IllegalStateException("Could not move " + worldName + " out of the way");
+        }
+        try {
+            long bytes = WorldFiles.copyWorldFolder(template, getWorldFolder(worldName));
+            plugin.getLogger().info("Restored " + worldName + " from template (" + (bytes / 1024) + " KiB)");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * テンプレートを取得し（キャッシュにない場合は生成を待つ）、そのコピーでワールドを作成する
+     */
+    private CompletableFuture<Boolean> cloneFromTemplate(WorldSet worldSet, World.Environment environment) {
+        return plugin.getTemplateCache().getTemplate(worldSet.getSeed(), environment).thenCompose(source -> {
+            if (source == null) {
+                return CompletableFuture.completedFuture(false);
+            }
+            return copyTemplate(source, worldSet.getWorldName(environment), environment);
+        });
+    }
+
+    /**
+     * テンプレートのフォルダをバックグラウンドでコピーし、メインスレッドでMultiverseにインポートする
+     */
+    private CompletableFuture<Boolean> copyTemplate(Path source, String worldName, World.Environment environment) {
+        Path target = getWorldFolder(worldName);
+        long startNanos = System.nanoTime();
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return WorldFiles.copyWorldFolder(source, target);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, ioExecutor).handleAsync((bytes, error) -> {
+            if (error != null) {
+                plugin.getLogger().log(Level.SEVERE, "Failed to copy template " + source.getFileName()
+                        + " to " + worldName, error);
+                discardFailedWorld(worldName);
+                return false;
+            }
+            return importClonedWorld(worldName, environment, bytes, startNanos);
+        }, mainThread);
+    }
+
+    /**
+     * コピーしたワールドフォルダをMultiverseにインポートする（メインスレッドで呼ぶこと）
+     */
+    private boolean importClonedWorld(String worldName, World.Environment environment, long bytes, long startNanos) {
+        try {
+            var result = mvApi.getWorldManager().importWorld(
+                    ImportWorldOptions.worldName(worldName).environment(environment));
+            if (result.isFailure()) {
+                plugin.getLogger().severe("Failed to import cloned world " + worldName + ": " + result.getFailureReason());
+                discardFailedWorld(worldName);
+                return false;
+            }
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Exception while importing cloned world " + worldName, e);
+            discardFailedWorld(worldName);
+            return false;
+        }
+
+        plugin.getLogger().info("Cloned " + worldName + " from template (" + (bytes / 1024) + " KiB in "
+                + (System.nanoTime() - startNanos) / 1_000_000 + " ms)");
+        return true;
+    }
+
+    /**
+     * 作成に失敗したワールドのフォルダを削除する
+     * 削除できなかった場合は、途中までのフォルダが次の作成で使われないよう手動での削除を促すログを残す
+     */
+    private void discardFailedWorld(String worldName) {
+        if (!plugin.getWorldTrash().discard(worldName)) {
+            plugin.getLogger().severe("Could not remove the incomplete world folder " + worldName
+                    + "; delete it manually before creating this world again");
+        }
+    }
+
+    private Path getWorldFolder(String worldName) {
+        return Bukkit.getWorldContainer().toPath().resolve(worldName);
+    }
+
+    /**
+     * 作成途中のワールドセットを削除（クリーンアップ）
+     *
+     * @param createdCount 作成済みのワールド数（CREATION_ORDERの先頭から）
+     */
+    public void rollbackWorldSet(WorldSet worldSet, int createdCount) {
+        for (int i = 0; i < createdCount && i < CREATION_ORDER.length; i++) {
+            deleteWorld(worldSet.getWorldName(CREATION_ORDER[i]));
+        }
+    }
+
+    /**
+     * ワールドセットのスポーン位置に安全にテレポート（キャッシュ済みの安全な位置へ非同期にテレポートする）
+     *
+     * @return テレポートが完了した場合trueで完了するFuture
+     */
+    public CompletableFuture<Boolean> teleportToWorldSetSpawn(WorldSet worldSet, World.Environment environment, Player player) {
+        var targetWorld = loadWorld(worldSet, environment);
 
         if (targetWorld == null) {
             plugin.getLogger().warning("Target world is null for environment: " + environment);
-            return;
+            return CompletableFuture.completedFuture(false);
         }
 
-        // 安全なスポーン位置を取得
-        var spawnLocation = targetWorld.getSpawnLocation().clone();
-        mvApi.getSafetyTeleporter().to(spawnLocation)
-                .checkSafety(true)
-                .teleport(player);
+        return plugin.getSafeSpawnCache().getSafeSpawn(targetWorld).thenCompose(location -> player.isOnline()
+                ? player.teleportAsync(location)
+                : CompletableFuture.completedFuture(false));
     }
 
     /**
@@ -160,8 +474,9 @@ public class WorldSetManager {
         success &= deleteWorld(worldSet.getNetherName());
         success &= deleteWorld(worldSet.getEndName());
 
-        if (success && worldSets.containsKey(worldSet.getTeamName())) {
+        if (success && worldSets.get(worldSet.getTeamName()) == worldSet) {
             worldSets.remove(worldSet.getTeamName());
+            unindex(worldSet);
         }
 
         return success;
@@ -169,6 +484,7 @@ public class WorldSetManager {
 
     /**
      * 単一のワールドを削除
+     * メインスレッドではアンロードとMultiverseからの登録解除のみ行い、フォルダはバックグラウンドで削除する
      */
     private boolean deleteWorld(String worldName) {
         if (mvApi == null) {
@@ -177,22 +493,28 @@ public class WorldSetManager {
 
         try {
             WorldManager worldManager = mvApi.getWorldManager();
-            var worldOpt = worldManager.getLoadedWorld(worldName);
+            // アンロード中（休止中）のワールドも削除する
+            var worldOpt = worldManager.getWorld(worldName);
 
             if (worldOpt.isEmpty()) {
                 plugin.getLogger().warning("World not found for deletion: " + worldName);
                 return true; // ワールドが存在しない場合は成功とみなす
             }
 
-            LoadedMultiverseWorld world = worldOpt.get();
-            var deleteResult = worldManager.deleteWorld(DeleteWorldOptions.world(world));
+            MultiverseWorld world = worldOpt.get();
+            var removeResult = worldManager.removeWorld(RemoveWorldOptions.world(world));
 
-            if (deleteResult.isFailure()) {
+            if (removeResult.isFailure()) {
                 plugin.getLogger()
-                        .severe("Failed to delete world " + worldName + ": " + deleteResult.getFailureReason());
+                        .severe("Failed to remove world " + worldName + ": " + removeResult.getFailureReason());
                 return false;
             }
 
+            if (!plugin.getWorldTrash().discard(worldName)) {
+                plugin.getLogger().warning("World " + worldName
+                        + " was removed from Multiverse, but its folder could not be deleted");
+                return false;
+            }
             plugin.getLogger().info("Successfully deleted world: " + worldName);
             return true;
 
@@ -213,7 +535,8 @@ public class WorldSetManager {
         var worldOpt = worldManager.getLoadedWorld(worldName);
 
         if (worldOpt.isEmpty()) {
-            return false;
+            // アンロード中のワールドにはプレイヤーがいない
+            return worldManager.getWorld(worldName).isDefined();
         }
 
         LoadedMultiverseWorld world = worldOpt.get();
@@ -226,22 +549,34 @@ public class WorldSetManager {
      * ワールド名からワールドセットを取得
      */
     public WorldSet getWorldSetByWorldName(String worldName) {
-        for (WorldSet worldSet : worldSets.values()) {
-            if (worldSet.containsWorld(worldName)) {
-                return worldSet;
-            }
-        }
-        return null;
+        return worldName != null ? worldSetsByWorldName.get(worldName) : null;
     }
 
     /**
-     * ワールドからチーム名を取得
+     * ワールドからワールドセットを取得（ワールドUIDの索引を使用）
      */
-    public String getTeamNameByWorld(World world) {
+    public WorldSet getWorldSetByWorld(World world) {
         if (world == null) {
             return null;
         }
-        WorldSet worldSet = getWorldSetByWorldName(world.getName());
+        WorldSet worldSet = worldSetsByWorldUid.get(world.getUID());
+        if (worldSet != null) {
+            return worldSet;
+        }
+
+        // 初回はワールド名で検索し、UIDの索引に登録する
+        worldSet = worldSetsByWorldName.get(world.getName());
+        if (worldSet != null) {
+            worldSetsByWorldUid.put(world.getUID(), worldSet);
+        }
+        return worldSet;
+    }
+
+    /**
+     * ワールドからチーム名を取得
+     */
+    public String getTeamNameByWorld(World world) {
+        WorldSet worldSet = getWorldSetByWorld(world);
         return worldSet != null ? worldSet.getTeamName() : null;
     }
 
@@ -259,11 +594,44 @@ public class WorldSetManager {
         return getWorldSetByWorldName(worldName) != null;
     }
 
+    /**
+     * 指定されたワールドがタイムアタック用ワールドか確認（ワールドUIDの索引を使用）
+     */
+    public boolean isTimeAttackWorld(World world) {
+        return getWorldSetByWorld(world) != null;
+    }
+
     /**
      * ワールドセットを登録（リロード時などに使用）
      */
     public void registerWorldSet(WorldSet worldSet) {
-        worldSets.put(worldSet.getTeamName(), worldSet);
+        WorldSet previous = worldSets.put(worldSet.getTeamName(), worldSet);
+        if (previous != null && previous != worldSet) {
+            unindex(previous);
+        }
+        worldSetsByWorldName.put(worldSet.getOverworldName(), worldSet);
+        worldSetsByWorldName.put(worldSet.getNetherName(), worldSet);
+        worldSetsByWorldName.put(worldSet.getEndName(), worldSet);
+    }
+
+    /**
+     * ワールドセットの登録を解除（ワールドは削除しない）
+     */
+    public void unregisterWorldSet(WorldSet worldSet) {
+        if (worldSets.get(worldSet.getTeamName()) == worldSet) {
+            worldSets.remove(worldSet.getTeamName());
+            unindex(worldSet);
+        }
+    }
+
+    /**
+     * ワールドセットを索引から削除
+     */
+    private void unindex(WorldSet worldSet) {
+        worldSetsByWorldName.remove(worldSet.getOverworldName(), worldSet);
+        worldSetsByWorldName.remove(worldSet.getNetherName(), worldSet);
+        worldSetsByWorldName.remove(worldSet.getEndName(), worldSet);
+        worldSetsByWorldUid.values().removeIf(indexed -> indexed == worldSet);
     }
 
     /**
@@ -271,6 +639,8 @@ public class WorldSetManager {
      */
     public void clearAllWorldSets() {
         worldSets.clear();
+        worldSetsByWorldName.clear();
+        worldSetsByWorldUid.clear();
     }
 
     /**
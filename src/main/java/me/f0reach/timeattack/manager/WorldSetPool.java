@@ -0,0 +1,213 @@
+package me.f0reach.timeattack.manager;
+
+import me.f0reach.timeattack.PluginMain;
+import me.f0reach.timeattack.model.GameState;
+import me.f0reach.timeattack.model.WorldSet;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 現在のシードで事前に作成しておく、チーム未割り当てのワールドセットのプール
+ * ワールド作成キューが空いていてゲームが進行中でない間に1セットずつ補充し、
+ * チーム作成時や /ta create 時にワールド名はそのままチームへ割り当てる（Multiverseのエイリアスをチーム名にする）
+ */
+public class WorldSetPool {
+    private static final String POOL_PREFIX = "ta_pool_";
+    // 補充が必要か確認する間隔（tick）
+    private static final long REFILL_INTERVAL = 200L;
+
+    private final PluginMain plugin;
+    private final Deque<WorldSet> available;
+    private BukkitTask refillTask;
+
+    public WorldSetPool(PluginMain plugin) {
+        this.plugin = plugin;
+        this.available = new ArrayDeque<>();
+    }
+
+    /**
+     * 前回までに作成したプールのワールドセットを読み込み、補充を開始する（チーム読み込み後に呼ぶこと）
+     */
+    public void start() {
+        discover();
+        if (refillTask == null) {
+            refillTask = Bukkit.getScheduler().runTaskTimer(plugin, this::refill, REFILL_INTERVAL, REFILL_INTERVAL);
+        }
+    }
+
+    /**
+     * 補充を停止
+     */
+    public void stop() {
+        if (refillTask != null) {
+            refillTask.cancel();
+            refillTask = null;
+        }
+    }
+
+    /**
+     * 割り当て可能なワールドセットの数
+     */
+    public int size() {
+        return available.size();
+    }
+
+    /**
+     * プールからワールドセットを取り出してチームに割り当てる
+     *
+     * @return チーム用に登録されたWorldSet、プールが空の場合はnull
+     */
+    public WorldSet claim(String teamName) {
+        Long seed = currentSeed();
+        if (seed == null) {
+            return null;
+        }
+
+        WorldSet pooled;
+        while ((pooled = available.poll()) != null) {
+            if (pooled.getSeed() == seed && isLoaded(pooled)) {
+                break;
+            }
+            // シードが変わった、または他の操作でアンロードされたセットは破棄する
+            plugin.getWorldSetManager().deleteWorldSet(pooled);
+        }
+        if (pooled == null) {
+            return null;
+        }
+
+        WorldSet worldSet = new WorldSet(teamName, pooled.getOverworldName(), pooled.getNetherName(),
+                pooled.getEndName(), pooled.getSeed());
+        plugin.getWorldSetManager().registerWorldSet(worldSet);
+        plugin.getWorldSetManager().setWorldSetAlias(worldSet, teamName);
+        plugin.getLogger().info("Assigned pooled world set " + pooled.getOverworldName() + " to team: " + teamName
+                + " (" + available.size() + " left in pool)");
+        return worldSet;
+    }
+
+    /**
+     * チームに割り当てたワールドセットをプールに戻す（チーム作成の取り消し用）
+     */
+    public void release(WorldSet claimed) {
+        plugin.getWorldSetManager().unregisterWorldSet(claimed);
+        WorldSet pooled = new WorldSet(claimed.getOverworldName(), claimed.getOverworldName(),
+                claimed.getNetherName(), claimed.getEndName(), claimed.getSeed());
+        plugin.getWorldSetManager().setWorldSetAlias(pooled, pooled.getOverworldName());
+        available.addFirst(pooled);
+        plugin.getLogger().info("Returned " + pooled.getOverworldName() + " to the world set pool ("
+                + available.size() + " available)");
+    }
+
+    /**
+     * 作成が完了したワールドセットをプールに追加（ワールド作成キューから呼ばれる）
+     */
+    void add(WorldSet worldSet) {
+        Long seed = currentSeed();
+        if (seed == null || worldSet.getSeed() != seed) {
+            plugin.getLogger().info("Discarding pooled world set " + worldSet.getOverworldName() + " (seed changed)");
+            plugin.getWorldSetManager().deleteWorldSet(worldSet);
+            return;
+        }
+        available.add(worldSet);
+        plugin.getChunkPregenerator().pregenerate(worldSet);
+        plugin.getLogger().info("Added " + worldSet.getOverworldName() + " to the world set pool ("
+                + available.size() + "/" + plugin.getConfigManager().getWorldPoolSize() + ")");
+    }
+
+    /**
+     * プール内のワールドセットを全て削除する（シード変更時）
+     * 作成中のセットは完了時にシードを確認して破棄される
+     */
+    public void invalidate() {
+        List<WorldSet> discarded = new ArrayList<>(available);
+        available.clear();
+        for (WorldSet worldSet : discarded) {
+            plugin.getWorldSetManager().deleteWorldSet(worldSet);
+        }
+        if (!discarded.isEmpty()) {
+            plugin.getLogger().info("Invalidated " + discarded.size() + " pooled world set(s)");
+        }
+    }
+
+    /**
+     * ワールド作成キューが空いていれば1セット分の作成を追加する
+     */
+    private void refill() {
+        int target = plugin.getConfigManager().getWorldPoolSize();
+        Long seed = currentSeed();
+        if (target <= 0 || seed == null || available.size() >= target) {
+            return;
+        }
+        if (plugin.getGameManager().getGameState() == GameState.RUNNING
+                || plugin.getWorldCreationQueue().isBusy()) {
+            return;
+        }
+
+        plugin.getWorldCreationQueue().enqueuePooled(new WorldSet(nextPoolName(), seed));
+    }
+
+    /**
+     * 起動時にロード済みのプール用ワールドセットを探す（チームに割り当て済みのものは除く）
+     */
+    private void discover() {
+        Long seed = currentSeed();
+        for (World world : Bukkit.getWorlds()) {
+            String name = world.getName();
+            if (!name.startsWith(POOL_PREFIX) || world.getEnvironment() != World.Environment.NORMAL
+                    || plugin.getWorldSetManager().isTimeAttackWorld(name)) {
+                continue;
+            }
+
+            WorldSet worldSet = new WorldSet(name, world.getSeed());
+            if (seed != null && worldSet.getSeed() == seed && isLoaded(worldSet)) {
+                available.add(worldSet);
+                plugin.getChunkPregenerator().pregenerate(worldSet);
+            } else {
+                plugin.getLogger().info("Discarding stale pooled world set: " + name);
+                plugin.getWorldSetManager().deleteWorldSet(worldSet);
+            }
+        }
+        if (!available.isEmpty()) {
+            plugin.getLogger().info("Found " + available.size() + " pooled world set(s)");
+        }
+    }
+
+    /**
+     * 使われていないプール用のワールド名を取得
+     */
+    private String nextPoolName() {
+        for (int i = 1; ; i++) {
+            String name = POOL_PREFIX + i;
+            boolean used = Bukkit.getWorld(name) != null
+                    || new File(Bukkit.getWorldContainer(), name).exists()
+                    || plugin.getWorldSetManager().isTimeAttackWorld(name)
+                    || plugin.getWorldCreationQueue().getPendingJob(name) != null;
+            for (WorldSet pooled : available) {
+                used |= pooled.getOverworldName().equals(name);
+            }
+            if (!used) {
+                return name;
+            }
+        }
+    }
+
+    /**
+     * オーバーワールドが読み込まれているか確認（ネザーとエンドは遅延読み込みのためアンロードされていてもよい）
+     */
+    private boolean isLoaded(WorldSet worldSet) {
+        return worldSet.getOverworld() != null;
+    }
+
+    /**
+     * 現在のシード（未設定の場合はnull）
+     */
+    private Long currentSeed() {
+        return plugin.getConfigManager().hasSeed() ? plugin.getConfigManager().getCurrentSeed() : null;
+    }
+}
@@ -0,0 +1,175 @@
+package me.f0reach.timeattack.manager;
+
+import me.f0reach.timeattack.PluginMain;
+import me.f0reach.timeattack.util.WorldFiles;
+import org.bukkit.Bukkit;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * 削除したワールドのフォルダをバックグラウンドで削除するクラス
+ * メインスレッドではフォルダをゴミ箱フォルダへ移動（同じファイルシステム内の名前変更）するだけにし、
+ * 再帰的な削除は専用のスレッドで行う。ゴミ箱に残ったフォルダや削除待ちの名前のフォルダが印となり、
+ * 削除が中断された場合は次回起動時に削除される
+ */
+public class WorldTrash {
+    private static final String TRASH_FOLDER = "timeattack-trash";
+    // 削除待ちのフォルダ名に付ける印（ゴミ箱へ移動できずに元のフォルダ内で名前を変更した場合も使う）
+    private static final String TOMBSTONE_MARKER = ".ta-deleted-";
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_DELAY_MILLIS = 2000L;
+
+    private final PluginMain plugin;
+    private final Path trashFolder;
+    private final ExecutorService executor;
+
+    public WorldTrash(PluginMain plugin) {
+        this.plugin = plugin;
+        this.trashFolder = Bukkit.getWorldContainer().toPath().resolve(TRASH_FOLDER);
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "TimeAttack-WorldTrash");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 前回削除しきれなかったフォルダ（ゴミ箱とサーバーフォルダの削除待ちフォルダ）の削除を開始（起動時）
+     */
+    public void sweep() {
+        if (Files.isDirectory(trashFolder)) {
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(trashFolder)) {
+                int count = 0;
+                for (Path entry : entries) {
+                    submit(entry);
+                    count++;
+                }
+                if (count > 0) {
+                    plugin.getLogger().info("Resuming deletion of " + count + " world folder(s) from " + TRASH_FOLDER);
+                }
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.WARNING, "Failed to list " + TRASH_FOLDER, e);
+            }
+        }
+        sweep(Bukkit.getWorldContainer().toPath());
+    }
+
+    /**
+     * 指定したフォルダ内に残った削除待ちフォルダ（ゴミ箱へ移動できなかったもの）の削除を開始
+     */
+    public void sweep(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory,
+                WorldTrash::isTombstone)) {
+            for (Path entry : entries) {
+                plugin.getLogger().info("Resuming deletion of " + entry);
+                submit(entry);
+            }
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to list deleted folders in " + directory, e);
+        }
+    }
+
+    /**
+     * 削除待ちのフォルダか確認（一覧を作るときに除外するため）
+     */
+    public static boolean isTombstone(Path folder) {
+        return folder.getFileName().toString().contains(TOMBSTONE_MARKER);
+    }
+
+    /**
+     * ワールドフォルダをゴミ箱へ移動し、バックグラウンドで削除する（アンロード済みであること）
+     *
+     * @return 移動に成功し削除を開始した場合true（元の名前は直ちに再利用できる）
+     */
+    public boolean discard(String worldName) {
+        return discard(Bukkit.getWorldContainer().toPath().resolve(worldName));
+    }
+
+    /**
+     * 任意の場所のワールドフォルダをゴミ箱へ移動し、バックグラウンドで削除する
+     * ゴミ箱へ移動できない場合（別のファイルシステムにある場合など）は、同じフォルダ内で削除待ちの名前に変更してから削除する
+     * 元の名前のまま削除することはない（削除中に同じ名前でフォルダが作られると競合するため）
+     *
+     * @return 移動に成功し削除を開始した場合true、名前を変更できなかった場合false（フォルダはそのまま残る）
+     */
+    public boolean discard(Path folder) {
+        if (!Files.exists(folder)) {
+            return true;
+        }
+
+        String name = folder.getFileName().toString();
+        String tombstone = name + TOMBSTONE_MARKER + System.currentTimeMillis();
+        Path target = trashFolder.resolve(tombstone);
+        try {
+            Files.createDirectories(trashFolder);
+            Files.move(folder, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // 同じフォルダ内での名前変更は同じファイルシステム内なので失敗しにくい
+            // 削除が中断された場合は次回起動時に sweep で削除される
+            target = folder.resolveSibling(tombstone);
+            try {
+                Files.move(folder, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException renameError) {
+                renameError.addSuppressed(e);
+                plugin.getLogger().log(Level.WARNING, "Failed to move " + folder + " out of the way for deletion",
+                        renameError);
+                return false;
+            }
+        }
+
+        submit(target);
+        return true;
+    }
+
+    /**
+     * 削除スレッドを停止（残ったフォルダは次回起動時に削除される）
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+                plugin.getLogger().info("World folder deletion will be resumed on next startup");
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void submit(Path folder) {
+        executor.execute(() -> delete(folder));
+    }
+
+    private void delete(Path folder) {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            long start = System.nanoTime();
+            try {
+                WorldFiles.deleteWorldFolder(folder);
+                plugin.getLogger().info("Deleted world folder " + folder.getFileName() + " in "
+                        + (System.nanoTime() - start) / 1_000_000 + " ms");
+                return;
+            } catch (IOException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    plugin.getLogger().log(Level.WARNING, "Failed to delete " + folder
+                            + ", will retry on next startup", e);
+                    return;
+                }
+                try {
+                    Thread.sleep(RETRY_DELAY_MILLIS * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
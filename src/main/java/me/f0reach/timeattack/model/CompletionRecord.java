@@ -0,0 +1,54 @@
+package me.f0reach.timeattack.model;
+
+import java.util.Comparator;
+
+/**
+ * チームの完了記録
+ *
+ * @param teamName     チーム名
+ * @param time         クリアタイム（ミリ秒）
+ * @param elapsedNanos クリアタイム（ナノ秒、単調時計による計測値）
+ * @param tick         完了時のサーバーtick番号（不明な場合は-1）
+ * @param igtTicks     クリアタイム（ゲーム内時間のtick数、不明な場合は-1）
+ * @param rank         順位（1始まり）
+ */
+public record CompletionRecord(String teamName, long time, long elapsedNanos, int tick, long igtTicks, int rank) {
+
+    /**
+     * 完了順の比較（経過ナノ秒 → tick番号 → チーム名の順で決定的に並べる）
+     */
+    public static final Comparator<CompletionRecord> ORDER = Comparator
+            .comparingLong(CompletionRecord::elapsedNanos)
+            .thenComparingInt(CompletionRecord::tick)
+            .thenComparing(CompletionRecord::teamName);
+
+    /**
+     * ゲーム内時間での完了順の比較（IGT tick数 → 経過ナノ秒 → チーム名の順）
+     * IGTが不明な記録は最後に並ぶ
+     */
+    public static final Comparator<CompletionRecord> IGT_ORDER = Comparator
+            .comparingLong((CompletionRecord record) -> record.igtTicks() < 0 ? Long.MAX_VALUE : record.igtTicks())
+            .thenComparing(ORDER);
+
+    /**
+     * チームの完了情報から記録を作成
+     */
+    public static CompletionRecord of(Team team, int rank) {
+        return new CompletionRecord(team.getName(), team.getCompletionTime(),
+                team.getCompletionNanos(), team.getCompletionTick(), team.getCompletionIgtTicks(), rank);
+    }
+
+    /**
+     * 順位を差し替えた記録を作成
+     */
+    public CompletionRecord withRank(int newRank) {
+        return new CompletionRecord(teamName, time, elapsedNanos, tick, igtTicks, newRank);
+    }
+
+    /**
+     * ゲーム内時間のクリアタイムをミリ秒で取得（1tick = 50ms換算、不明な場合は-1）
+     */
+    public long igtMillis() {
+        return igtTicks < 0 ? -1 : igtTicks * 50L;
+    }
+}
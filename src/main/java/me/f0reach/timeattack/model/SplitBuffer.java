@@ -0,0 +1,129 @@
+package me.f0reach.timeattack.model;
+
+/**
+ * チームのスプリット（途中経過）を記録する固定長のリングバッファ
+ * 記録時にオブジェクトを生成しないよう、時間はプリミティブ配列で保持する
+ * 容量を超えた場合は最も古い記録から上書きされる
+ */
+public class SplitBuffer {
+    public static final int DEFAULT_CAPACITY = 32;
+
+    private final String[] keys;
+    private final long[] elapsedNanos;
+    private final long[] igtTicks;
+    private int head;
+    private int size;
+
+    public SplitBuffer(int capacity) {
+        this.keys = new String[capacity];
+        this.elapsedNanos = new long[capacity];
+        this.igtTicks = new long[capacity];
+    }
+
+    /**
+     * スプリットを記録（同じキーが既に記録されている場合は何もしない）
+     * @param key      スプリットのキー
+     * @param nanos    経過時間（ナノ秒）
+     * @param igt      ゲーム内時間（tick数）
+     * @return 記録した場合true
+     */
+    public boolean record(String key, long nanos, long igt) {
+        if (contains(key)) {
+            return false;
+        }
+        keys[head] = key;
+        elapsedNanos[head] = nanos;
+        igtTicks[head] = igt;
+        head = (head + 1) % keys.length;
+        if (size < keys.length) {
+            size++;
+        }
+        return true;
+    }
+
+    /**
+     * 指定キーのスプリットが記録済みか確認
+     */
+    public boolean contains(String key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * 指定キーの経過時間を取得
+     * @return 経過時間（ナノ秒）、未記録の場合は-1
+     */
+    public long getElapsedNanos(String key) {
+        int index = indexOf(key);
+        return index >= 0 ? elapsedNanos[index] : -1;
+    }
+
+    /**
+     * 記録数を取得
+     */
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * i番目（古い順）のスプリットのキーを取得
+     */
+    public String getKey(int i) {
+        return keys[slot(i)];
+    }
+
+    /**
+     * i番目（古い順）のスプリットの経過時間（ナノ秒）を取得
+     */
+    public long getElapsedNanos(int i) {
+        return elapsedNanos[slot(i)];
+    }
+
+    /**
+     * i番目（古い順）のスプリットのゲーム内時間（tick数）を取得
+     */
+    public long getIgtTicks(int i) {
+        return igtTicks[slot(i)];
+    }
+
+    /**
+     * 全記録を削除
+     */
+    public void clear() {
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * 他のバッファの内容で置き換える
+     */
+    public void copyFrom(SplitBuffer other) {
+        clear();
+        for (int i = 0; i < other.size(); i++) {
+            record(other.getKey(i), other.getElapsedNanos(i), other.getIgtTicks(i));
+        }
+    }
+
+    private int indexOf(String key) {
+        for (int i = 0; i < size; i++) {
+            int slot = slot(i);
+            if (keys[slot].equals(key)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private int slot(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Split index " + i + " out of bounds for size " + size);
+        }
+        return (head - size + i + keys.length) % keys.length;
+    }
+}
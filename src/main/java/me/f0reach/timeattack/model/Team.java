@@ -1,7 +1,13 @@
 package me.f0reach.timeattack.model;
 
+import net.kyori.adventure.audience.Audience;
+import org.bukkit.entity.Player;
+
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -14,7 +20,15 @@ public class Team {
     private WorldSet worldSet;
     private GameState state;
     private long completionTime;
+    private long completionNanos;
+    private int completionTick;
+    private long completionIgtTicks;
     private String color;
+    private final SplitBuffer splits;
+
+    // オンラインのメンバー（TeamManagerが参加・退出時に更新する）
+    private final Map<UUID, Player> onlineMembers;
+    private final Audience audience;
 
     public Team(String name) {
         this.name = name;
@@ -22,7 +36,13 @@ public class Team {
         this.worldSet = null;
         this.state = GameState.WAITING;
         this.completionTime = -1;
+        this.completionNanos = -1;
+        this.completionTick = -1;
+        this.completionIgtTicks = -1;
         this.color = null;
+        this.splits = new SplitBuffer(SplitBuffer.DEFAULT_CAPACITY);
+        this.onlineMembers = new LinkedHashMap<>();
+        this.audience = Audience.audience(Collections.unmodifiableCollection(onlineMembers.values()));
     }
 
     public String getName() {
@@ -50,6 +70,7 @@ public class Team {
      * @return 削除に成功した場合true
      */
     public boolean removeMember(UUID playerId) {
+        onlineMembers.remove(playerId);
         return members.remove(playerId);
     }
 
@@ -60,6 +81,51 @@ public class Team {
         return members.contains(playerId);
     }
 
+    /**
+     * オンラインのメンバーを取得（Bukkit.getPlayer()による検索は不要）
+     */
+    public Collection<Player> getOnlineMembers() {
+        return Collections.unmodifiableCollection(onlineMembers.values());
+    }
+
+    /**
+     * オンラインのメンバーを取得
+     * @return プレイヤー、オフラインまたはメンバーでない場合はnull
+     */
+    public Player getOnlineMember(UUID playerId) {
+        return onlineMembers.get(playerId);
+    }
+
+    /**
+     * オンラインのメンバー全員へのAudienceを取得（メッセージ・タイトル・アクションバーの一斉送信用）
+     */
+    public Audience audience() {
+        return audience;
+    }
+
+    /**
+     * メンバーをオンラインとして登録（TeamManagerから呼ばれる）
+     */
+    public void setOnline(Player player) {
+        if (members.contains(player.getUniqueId())) {
+            onlineMembers.put(player.getUniqueId(), player);
+        }
+    }
+
+    /**
+     * メンバーをオフラインとして登録（TeamManagerから呼ばれる）
+     */
+    public void setOffline(UUID playerId) {
+        onlineMembers.remove(playerId);
+    }
+
+    /**
+     * オンラインのメンバーの登録をすべて解除
+     */
+    public void clearOnlineMembers() {
+        onlineMembers.clear();
+    }
+
     public WorldSet getWorldSet() {
         return worldSet;
     }
@@ -91,6 +157,39 @@ public class Team {
         this.completionTime = completionTime;
     }
 
+    /**
+     * クリアタイムをナノ秒で取得（単調時計による計測値、未完了の場合は-1）
+     */
+    public long getCompletionNanos() {
+        return completionNanos;
+    }
+
+    public void setCompletionNanos(long completionNanos) {
+        this.completionNanos = completionNanos;
+    }
+
+    /**
+     * 完了時のサーバーtick番号を取得（不明な場合は-1）
+     */
+    public int getCompletionTick() {
+        return completionTick;
+    }
+
+    public void setCompletionTick(int completionTick) {
+        this.completionTick = completionTick;
+    }
+
+    /**
+     * クリアタイムをゲーム内時間（IGT）のtick数で取得（未完了・不明な場合は-1）
+     */
+    public long getCompletionIgtTicks() {
+        return completionIgtTicks;
+    }
+
+    public void setCompletionIgtTicks(long completionIgtTicks) {
+        this.completionIgtTicks = completionIgtTicks;
+    }
+
     /**
      * チームがゲームを完了しているか確認
      */
@@ -104,6 +203,17 @@ public class Team {
     public void reset() {
         this.state = GameState.WAITING;
         this.completionTime = -1;
+        this.completionNanos = -1;
+        this.completionTick = -1;
+        this.completionIgtTicks = -1;
+        this.splits.clear();
+    }
+
+    /**
+     * スプリット（途中経過）の記録を取得
+     */
+    public SplitBuffer getSplits() {
+        return splits;
     }
 
     public String getColor() {
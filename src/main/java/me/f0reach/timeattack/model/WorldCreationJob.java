@@ -0,0 +1,125 @@
+package me.f0reach.timeattack.model;
+
+import org.bukkit.World;
+
+import java.util.UUID;
+
+/**
+ * ワールドセット作成ジョブ（1回の進行で1ワールドずつ作成する）
+ */
+public class WorldCreationJob {
+    /**
+     * ジョブの状態
+     */
+    public enum State {
+        /**
+         * 作成待ち
+         */
+        QUEUED,
+
+        /**
+         * 作成中
+         */
+        CREATING,
+
+        /**
+         * 作成完了
+         */
+        COMPLETED,
+
+        /**
+         * 作成失敗（作成済みのワールドは削除済み）
+         */
+        FAILED
+    }
+
+    private final int id;
+    private final WorldSet worldSet;
+    private final UUID requesterId; // null = コンソール
+    private final boolean pooled;
+    private final long createdAt;
+    private State state;
+    private int createdCount;
+    private String failureReason;
+
+    public WorldCreationJob(int id, WorldSet worldSet, UUID requesterId) {
+        this(id, worldSet, requesterId, false);
+    }
+
+    public WorldCreationJob(int id, WorldSet worldSet, UUID requesterId, boolean pooled) {
+        this.id = id;
+        this.worldSet = worldSet;
+        this.requesterId = requesterId;
+        this.pooled = pooled;
+        this.createdAt = System.currentTimeMillis();
+        this.state = State.QUEUED;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getTeamName() {
+        return worldSet.getTeamName();
+    }
+
+    public WorldSet getWorldSet() {
+        return worldSet;
+    }
+
+    public UUID getRequesterId() {
+        return requesterId;
+    }
+
+    /**
+     * プール用（チーム未割り当て）のワールドセットを作成するジョブの場合true
+     */
+    public boolean isPooled() {
+        return pooled;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public void setState(State state) {
+        this.state = state;
+    }
+
+    /**
+     * 作成済みのワールド数
+     */
+    public int getCreatedCount() {
+        return createdCount;
+    }
+
+    public void setCreatedCount(int createdCount) {
+        this.createdCount = createdCount;
+    }
+
+    public String getFailureReason() {
+        return failureReason;
+    }
+
+    public void setFailureReason(String failureReason) {
+        this.failureReason = failureReason;
+    }
+
+    /**
+     * 完了または失敗している場合true
+     */
+    public boolean isFinished() {
+        return state == State.COMPLETED || state == State.FAILED;
+    }
+
+    /**
+     * 次に作成するワールドの環境タイプ（全て作成済みの場合はnull）
+     */
+    public World.Environment getNextEnvironment(World.Environment[] order) {
+        return createdCount < order.length ? order[createdCount] : null;
+    }
+}
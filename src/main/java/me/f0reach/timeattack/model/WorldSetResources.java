@@ -0,0 +1,65 @@
+package me.f0reach.timeattack.model;
+
+import java.util.Comparator;
+import java.util.function.ToLongFunction;
+
+/**
+ * ワールドセットが使用しているリソースの集計（3つのワールドの合計）
+ * 値はワールドごとに別のtickで計測したものの合計のため、同時点の値とは限らない
+ *
+ * @param teamName      チーム名
+ * @param loadedWorlds  読み込み済みのワールド数
+ * @param chunks        読み込み済みのチャンク数
+ * @param entities      エンティティ数
+ * @param tileEntities  タイルエンティティ（ブロックエンティティ）数
+ * @param players       プレイヤー数
+ * @param heapBytes     ヒープ使用量の概算（バイト、チャンク数とエンティティ数からの推定値）
+ * @param diskBytes     リージョンファイルのディスク使用量（バイト、未計測の場合は-1）
+ * @param sampledAt     最も古い計測の時刻（ミリ秒）
+ */
+public record WorldSetResources(String teamName, int loadedWorlds, int chunks, int entities, int tileEntities,
+                                int players, long heapBytes, long diskBytes, long sampledAt) {
+
+    /**
+     * 並べ替えに使う項目
+     */
+    public enum Metric {
+        CHUNKS("chunks", WorldSetResources::chunks),
+        ENTITIES("entities", WorldSetResources::entities),
+        TILES("tiles", WorldSetResources::tileEntities),
+        PLAYERS("players", WorldSetResources::players),
+        HEAP("heap", WorldSetResources::heapBytes),
+        DISK("disk", WorldSetResources::diskBytes);
+
+        private final String key;
+        private final ToLongFunction<WorldSetResources> value;
+
+        Metric(String key, ToLongFunction<WorldSetResources> value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * 値の大きい順の比較（同じ値の場合はチーム名順）
+         */
+        public Comparator<WorldSetResources> descending() {
+            return Comparator.comparingLong(value).reversed().thenComparing(WorldSetResources::teamName);
+        }
+
+        /**
+         * キーから項目を取得（該当しない場合はnull）
+         */
+        public static Metric fromKey(String key) {
+            for (Metric metric : values()) {
+                if (metric.key.equalsIgnoreCase(key)) {
+                    return metric;
+                }
+            }
+            return null;
+        }
+    }
+}
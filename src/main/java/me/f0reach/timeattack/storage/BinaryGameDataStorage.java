@@ -0,0 +1,129 @@
+package me.f0reach.timeattack.storage;
+
+import java.io.*;
+import java.util.UUID;
+
+/**
+ * game-data.bin に保存するストレージ（コンパクトなバイナリ形式）
+ *
+ * 形式: [マジック int][バージョン int][シード long][ゲーム状態 UTF][開始時刻 long][IGT tick long]
+ *       [チーム数 int][チーム...]
+ * チーム: [名前 UTF][ワールドセット有無 boolean][ワールド名 UTF x3][状態 UTF][完了時間 long]
+ *        [完了時間ナノ秒 long][完了tick int][完了IGT tick long][色有無 boolean][色 UTF]
+ *        [メンバー数 int][UUID (long x2)...][スプリット数 int][スプリット...]
+ * スプリット: [キー UTF][経過時間ナノ秒 long][IGT tick long]
+ * バージョン1は完了時間ナノ秒・完了tickを、バージョン2以前はIGT tickを、バージョン3以前はスプリットを含まない
+ */
+public class BinaryGameDataStorage extends FileGameDataStorage {
+    private static final int MAGIC = 0x54414744; // "TAGD"
+    private static final int VERSION = 4;
+
+    public BinaryGameDataStorage(File file) {
+        super(file);
+    }
+
+    @Override
+    public GameData load() throws IOException {
+        GameData data = new GameData();
+        if (!exists()) {
+            return data;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a game data file: " + file.getName());
+            }
+            int version = in.readInt();
+            if (version < 1 || version > VERSION) {
+                throw new IOException("Unsupported game data version " + version + " in " + file.getName());
+            }
+
+            data.setCurrentSeed(in.readLong());
+            data.setGameState(in.readUTF());
+            data.setGameStartTime(in.readLong());
+            if (version >= 3) {
+                data.setGameIgtTicks(in.readLong());
+            }
+
+            int teamCount = in.readInt();
+            for (int i = 0; i < teamCount; i++) {
+                TeamData team = data.getOrCreateTeam(in.readUTF());
+                if (in.readBoolean()) {
+                    team.setWorldSet(in.readUTF(), in.readUTF(), in.readUTF());
+                }
+                team.setState(in.readUTF());
+                team.setCompletionTime(in.readLong());
+                if (version >= 2) {
+                    team.setCompletionNanos(in.readLong());
+                    team.setCompletionTick(in.readInt());
+                }
+                if (version >= 3) {
+                    team.setCompletionIgtTicks(in.readLong());
+                }
+                team.setColor(in.readBoolean() ? in.readUTF() : null);
+
+                int memberCount = in.readInt();
+                for (int j = 0; j < memberCount; j++) {
+                    team.getMembers().add(new UUID(in.readLong(), in.readLong()));
+                }
+
+                if (version >= 4) {
+                    int splitCount = in.readInt();
+                    for (int j = 0; j < splitCount; j++) {
+                        team.getSplits().add(new SplitData(in.readUTF(), in.readLong(), in.readLong()));
+                    }
+                }
+            }
+        }
+
+        return data;
+    }
+
+    @Override
+    public void save(GameData data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256 + data.getTeams().size() * 128);
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(data.getCurrentSeed());
+        out.writeUTF(data.getGameState());
+        out.writeLong(data.getGameStartTime());
+        out.writeLong(data.getGameIgtTicks());
+
+        out.writeInt(data.getTeams().size());
+        for (TeamData team : data.getTeams().values()) {
+            out.writeUTF(team.getName());
+            out.writeBoolean(team.hasWorldSet());
+            if (team.hasWorldSet()) {
+                out.writeUTF(team.getOverworld());
+                out.writeUTF(team.getNether());
+                out.writeUTF(team.getEnd());
+            }
+            out.writeUTF(team.getState());
+            out.writeLong(team.getCompletionTime());
+            out.writeLong(team.getCompletionNanos());
+            out.writeInt(team.getCompletionTick());
+            out.writeLong(team.getCompletionIgtTicks());
+            out.writeBoolean(team.getColor() != null);
+            if (team.getColor() != null) {
+                out.writeUTF(team.getColor());
+            }
+
+            out.writeInt(team.getMembers().size());
+            for (UUID member : team.getMembers()) {
+                out.writeLong(member.getMostSignificantBits());
+                out.writeLong(member.getLeastSignificantBits());
+            }
+
+            out.writeInt(team.getSplits().size());
+            for (SplitData split : team.getSplits()) {
+                out.writeUTF(split.key());
+                out.writeLong(split.elapsedNanos());
+                out.writeLong(split.igtTicks());
+            }
+        }
+
+        writeAtomically(bytes.toByteArray());
+    }
+}
@@ -0,0 +1,42 @@
+package me.f0reach.timeattack.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 単一ファイルに保存するストレージの基底クラス
+ */
+public abstract class FileGameDataStorage implements GameDataStorage {
+    protected final File file;
+
+    protected FileGameDataStorage(File file) {
+        this.file = file;
+    }
+
+    @Override
+    public String getName() {
+        return file.getName();
+    }
+
+    @Override
+    public boolean exists() {
+        return file.exists() && file.length() > 0;
+    }
+
+    /**
+     * 一時ファイルに書き込んでから置き換え、途中でクラッシュしても破損しないようにする
+     */
+    protected void writeAtomically(byte[] data) throws IOException {
+        Path target = file.toPath();
+        Path temp = target.resolveSibling(file.getName() + ".tmp");
+        Files.write(temp, data);
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
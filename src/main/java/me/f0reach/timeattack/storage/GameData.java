@@ -0,0 +1,148 @@
+package me.f0reach.timeattack.storage;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 永続化されるゲームデータ全体（シード・ゲーム状態・開始時刻・IGT・チーム）
+ * メインスレッドで変更され、保存時はcopy()したスナップショットがストレージに渡される
+ */
+public class GameData {
+    private long currentSeed;
+    private String gameState;
+    private long gameStartTime;
+    private long gameIgtTicks;
+    private final Map<String, TeamData> teams;
+
+    public GameData() {
+        this.currentSeed = 0;
+        this.gameState = "WAITING";
+        this.gameStartTime = 0;
+        this.gameIgtTicks = 0;
+        this.teams = new LinkedHashMap<>();
+    }
+
+    public long getCurrentSeed() {
+        return currentSeed;
+    }
+
+    public void setCurrentSeed(long currentSeed) {
+        this.currentSeed = currentSeed;
+    }
+
+    public String getGameState() {
+        return gameState;
+    }
+
+    public void setGameState(String gameState) {
+        this.gameState = gameState;
+    }
+
+    public long getGameStartTime() {
+        return gameStartTime;
+    }
+
+    public void setGameStartTime(long gameStartTime) {
+        this.gameStartTime = Math.max(0, gameStartTime);
+    }
+
+    /**
+     * ゲーム内時間（IGT）のtick数（最後のチェックポイント時点の値）
+     */
+    public long getGameIgtTicks() {
+        return gameIgtTicks;
+    }
+
+    public void setGameIgtTicks(long gameIgtTicks) {
+        this.gameIgtTicks = Math.max(0, gameIgtTicks);
+    }
+
+    /**
+     * チームデータのマップ（チーム名 -> TeamData）
+     */
+    public Map<String, TeamData> getTeams() {
+        return teams;
+    }
+
+    public TeamData getTeam(String name) {
+        return teams.get(name);
+    }
+
+    /**
+     * チームデータを取得、存在しない場合は作成
+     */
+    public TeamData getOrCreateTeam(String name) {
+        return teams.computeIfAbsent(name, TeamData::new);
+    }
+
+    public void removeTeam(String name) {
+        teams.remove(name);
+    }
+
+    /**
+     * 全データをクリア
+     */
+    public void clear() {
+        currentSeed = 0;
+        gameState = "WAITING";
+        gameStartTime = 0;
+        gameIgtTicks = 0;
+        teams.clear();
+    }
+
+    /**
+     * ジャーナルのイベントを適用
+     */
+    public void apply(JournalEvent event) {
+        switch (event.type()) {
+            case SEED_SET -> currentSeed = event.number();
+            case GAME_STATE_SET -> gameState = event.value();
+            case START_TIME_SET -> setGameStartTime(event.number());
+            case IGT_TICKS_SET -> setGameIgtTicks(event.number());
+            case TEAM_CREATED -> getOrCreateTeam(event.team());
+            case TEAM_DELETED -> removeTeam(event.team());
+            case MEMBER_ADDED -> getOrCreateTeam(event.team()).getMembers().add(UUID.fromString(event.value()));
+            case MEMBER_REMOVED -> getOrCreateTeam(event.team()).getMembers().remove(UUID.fromString(event.value()));
+            case TEAM_STATE_SET -> getOrCreateTeam(event.team()).setState(event.value());
+            case COMPLETION_RECORDED -> {
+                TeamData team = getOrCreateTeam(event.team());
+                team.setCompletionTime(event.number());
+                team.setCompletionNanos(Long.parseLong(event.values().get(0)));
+                team.setCompletionTick(Integer.parseInt(event.values().get(1)));
+                if (event.values().size() > 2) {
+                    team.setCompletionIgtTicks(Long.parseLong(event.values().get(2)));
+                }
+            }
+            case TEAM_WORLD_SET -> getOrCreateTeam(event.team()).setWorldSet(
+                    event.values().get(0), event.values().get(1), event.values().get(2));
+            case TEAM_COLOR_SET -> getOrCreateTeam(event.team()).setColor(event.value());
+            case TEAM_SPLITS_SET -> {
+                TeamData team = getOrCreateTeam(event.team());
+                team.getSplits().clear();
+                for (String line : event.values()) {
+                    SplitData split = SplitData.decode(line);
+                    if (split != null) {
+                        team.getSplits().add(split);
+                    }
+                }
+            }
+            case CLEARED -> clear();
+        }
+    }
+
+    /**
+     * ディープコピーを作成（バックグラウンドで保存するスナップショット用）
+     */
+    public GameData copy() {
+        GameData copy = new GameData();
+        copy.currentSeed = currentSeed;
+        copy.gameState = gameState;
+        copy.gameStartTime = gameStartTime;
+        copy.gameIgtTicks = gameIgtTicks;
+        for (TeamData team : teams.values()) {
+            copy.teams.put(team.getName(), team.copy());
+        }
+        return copy;
+    }
+}
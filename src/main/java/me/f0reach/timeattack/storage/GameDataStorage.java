@@ -0,0 +1,36 @@
+package me.f0reach.timeattack.storage;
+
+import java.io.IOException;
+
+/**
+ * ゲームデータの保存先（ストレージバックエンド）のインターフェース
+ * load()はメインスレッド、save()は書き込みスレッドから呼び出される
+ */
+public interface GameDataStorage {
+
+    /**
+     * ログ表示用の保存先名を取得
+     */
+    String getName();
+
+    /**
+     * 保存済みのデータが存在するか確認
+     */
+    boolean exists();
+
+    /**
+     * ゲームデータを読み込む（データが存在しない場合は空のGameDataを返す）
+     */
+    GameData load() throws IOException;
+
+    /**
+     * ゲームデータのスナップショットを保存
+     */
+    void save(GameData data) throws IOException;
+
+    /**
+     * 保存先を閉じる
+     */
+    default void close() {
+    }
+}
@@ -0,0 +1,180 @@
+package me.f0reach.timeattack.storage;
+
+import me.f0reach.timeattack.PluginMain;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/**
+ * ゲームデータの書き込みを遅延・集約して行うクラス（Write-Behind）
+ * 変更時はダーティフラグを立てるだけで、一定間隔でスナップショットを取得し
+ * バックグラウンドスレッドでストレージに書き出す
+ */
+public class GameDataWriter {
+    private final PluginMain plugin;
+    private final GameDataStorage storage;
+    private final Supplier<GameData> snapshotSupplier;
+    private final ExecutorService executor;
+
+    // 書き込み待ちの最新スナップショット（古いものは上書きされ、書き込みは1回に集約される）
+    private final AtomicReference<GameData> pendingSnapshot = new AtomicReference<>();
+
+    private boolean dirty;
+    private int intervalTicks;
+    private BukkitTask flushTask;
+
+    public GameDataWriter(PluginMain plugin, GameDataStorage storage, Supplier<GameData> snapshotSupplier) {
+        this.plugin = plugin;
+        this.storage = storage;
+        this.snapshotSupplier = snapshotSupplier;
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "TimeAttack-GameDataWriter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 定期フラッシュタスクを開始
+     *
+     * @param intervalTicks フラッシュ間隔（tick単位、0以下の場合は変更ごとに即時書き込み）
+     */
+    public void start(int intervalTicks) {
+        stopTask();
+        this.intervalTicks = intervalTicks;
+
+        if (intervalTicks > 0) {
+            flushTask = Bukkit.getScheduler().runTaskTimer(plugin, this::flush, intervalTicks, intervalTicks);
+        }
+    }
+
+    /**
+     * データが変更されたことを通知
+     */
+    public void markDirty() {
+        dirty = true;
+        if (intervalTicks <= 0 || flushTask == null) {
+            flush();
+        }
+    }
+
+    /**
+     * 未保存の変更があるか確認
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * 変更がある場合、スナップショットを取得してバックグラウンドで書き込む
+     * メインスレッドから呼び出すこと
+     */
+    public void flush() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+
+        // スナップショットはメインスレッドで取得し、書き込みのみを非同期で行う
+        if (pendingSnapshot.getAndSet(snapshotSupplier.get()) == null) {
+            executor.execute(this::writePending);
+        }
+    }
+
+    /**
+     * 現在のデータのスナップショットを取得して書き込む（メインスレッドから呼び出すこと）
+     * 書き込み待ちのスナップショットはこのスナップショットに置き換えられる
+     *
+     * @return 保存に成功した場合trueで完了するFuture（書き込みスレッドで完了する）
+     */
+    public CompletableFuture<Boolean> saveSnapshot() {
+        dirty = false;
+        pendingSnapshot.set(null);
+        GameData snapshot = snapshotSupplier.get();
+        return CompletableFuture.supplyAsync(() -> save(snapshot), executor);
+    }
+
+    /**
+     * スナップショットを書き込み、完了を待つ
+     *
+     * @return 保存に成功した場合true
+     */
+    public boolean saveSnapshotSync() {
+        try {
+            return saveSnapshot().get(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING, "Timed out waiting for " + storage.getName() + " write", e);
+            return false;
+        }
+    }
+
+    /**
+     * 未保存の変更を同期的に書き込む（reload・onDisable時に使用）
+     */
+    public void flushSync() {
+        flush();
+        try {
+            // 単一スレッドのため、空タスクの完了を待てば先行する書き込みも完了している
+            executor.submit(() -> { }).get(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING, "Timed out waiting for " + storage.getName() + " write", e);
+        }
+    }
+
+    /**
+     * フラッシュタスクとワーカースレッドを停止（未保存の変更は書き込まれる）
+     */
+    public void shutdown() {
+        stopTask();
+        flushSync();
+        executor.shutdown();
+        storage.close();
+    }
+
+    /**
+     * 書き込み先のストレージを取得
+     */
+    public GameDataStorage getStorage() {
+        return storage;
+    }
+
+    /**
+     * 書き込みスレッドのExecutorを取得（ファイル操作の順序をスナップショット書き込みと揃えるために使用）
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    private void stopTask() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+    }
+
+    private void writePending() {
+        GameData snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot != null) {
+            save(snapshot);
+        }
+    }
+
+    private boolean save(GameData snapshot) {
+        try {
+            storage.save(snapshot);
+            return true;
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to save " + storage.getName(), e);
+            return false;
+        }
+    }
+}
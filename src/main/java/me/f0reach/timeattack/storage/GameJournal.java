@@ -0,0 +1,266 @@
+package me.f0reach.timeattack.storage;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * ゲームデータの追記専用バイナリジャーナル
+ * 変更はイベントとしてメモリ上のバッファに追記され、一定間隔でまとめて書き込み・fsyncされる（グループコミット）
+ * スナップショット（ストレージへの保存）に成功した後にジャーナルは切り詰められる（コンパクション）
+ *
+ * レコード形式: [長さ int][ペイロード][CRC32 int]
+ * ペイロード形式: [種類 byte][チーム名 UTF][値の数 byte][値 UTF...][数値 long]
+ */
+public class GameJournal {
+    private final Logger logger;
+    private final File file;
+    private final Executor executor;
+
+    // メインスレッドで追記されるバッファ
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private final DataOutputStream bufferOut = new DataOutputStream(buffer);
+
+    // ワーカースレッドからのみアクセスされる
+    private volatile FileChannel channel;
+
+    private BukkitTask flushTask;
+    private BukkitTask compactTask;
+
+    /**
+     * @param logger   読み書きの失敗を記録するLogger
+     * @param file     ジャーナルファイル
+     * @param executor ファイルへの書き込みを行うExecutor（スナップショットの書き込みと同じスレッドにすること）
+     */
+    public GameJournal(Logger logger, File file, Executor executor) {
+        this.logger = logger;
+        this.file = file;
+        this.executor = executor;
+    }
+
+    /**
+     * ジャーナルを読み込み、記録されたイベントを順に適用する
+     * 途中で破損したレコード（書き込み途中のクラッシュなど）以降は破棄される
+     *
+     * @return 適用したイベント数
+     */
+    public int replay(Consumer<JournalEvent> consumer) {
+        if (!file.exists()) {
+            return 0;
+        }
+
+        List<JournalEvent> events = new ArrayList<>();
+        long validLength = 0;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                if (length <= 0 || length > 1 << 20) {
+                    break;
+                }
+
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+                int checksum = in.readInt();
+                if (checksum != checksum(payload)) {
+                    break;
+                }
+
+                JournalEvent event = decode(payload);
+                if (event == null) {
+                    break;
+                }
+                events.add(event);
+                validLength += 8L + length;
+            }
+        } catch (EOFException e) {
+            // 末尾の書き込み途中のレコードは破棄
+        } catch (IOException e) {
+            logger.severe("Failed to read " + file.getName() + ": " + e.getMessage());
+        }
+
+        if (validLength < file.length()) {
+            logger.warning("Discarding " + (file.length() - validLength) + " bytes of incomplete journal data");
+            try (FileChannel ch = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+                ch.truncate(validLength);
+            } catch (IOException e) {
+                logger.severe("Failed to truncate " + file.getName() + ": " + e.getMessage());
+            }
+        }
+
+        for (JournalEvent event : events) {
+            consumer.accept(event);
+        }
+        return events.size();
+    }
+
+    /**
+     * ジャーナルファイルを開き、グループコミットとコンパクションのタスクを開始
+     *
+     * @param plugin          タスクを登録するプラグイン
+     * @param flushInterval   グループコミットの間隔（tick単位）
+     * @param compactInterval コンパクションの間隔（tick単位）
+     * @param compaction      コンパクション処理（スナップショットを保存し、truncate()に保存結果を渡すこと）
+     */
+    public void start(Plugin plugin, int flushInterval, int compactInterval, Runnable compaction) throws IOException {
+        channel = FileChannel.open(file.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+
+        int flushTicks = Math.max(1, flushInterval);
+        flushTask = Bukkit.getScheduler().runTaskTimer(plugin, this::flush, flushTicks, flushTicks);
+
+        if (compactInterval > 0) {
+            compactTask = Bukkit.getScheduler().runTaskTimer(plugin, compaction, compactInterval, compactInterval);
+        }
+    }
+
+    /**
+     * イベントをバッファに追記（メインスレッドから呼び出すこと）
+     */
+    public void append(JournalEvent event) {
+        try {
+            writeRecord(bufferOut, event);
+        } catch (IOException e) {
+            // ByteArrayOutputStreamへの書き込みでは発生しない
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * バッファに溜まったイベントをまとめて書き込み、fsyncする
+     */
+    public void flush() {
+        if (buffer.size() == 0) {
+            return;
+        }
+        ByteBuffer data = ByteBuffer.wrap(buffer.toByteArray());
+        buffer.reset();
+
+        executor.execute(() -> {
+            if (channel == null) {
+                return;
+            }
+            try {
+                while (data.hasRemaining()) {
+                    channel.write(data);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                logger.severe("Failed to write " + file.getName() + ": " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * スナップショットの保存に成功した場合にジャーナルを切り詰める
+     * 先行して依頼されたスナップショットの書き込み完了後に実行される（保存に失敗した場合はイベントを残す）
+     *
+     * @param saved スナップショットの保存結果（同じExecutorで先に書き込みを依頼したもの）
+     */
+    public void truncate(CompletableFuture<Boolean> saved) {
+        executor.execute(() -> {
+            if (channel == null) {
+                return;
+            }
+            if (!saved.join()) {
+                logger.warning("Keeping " + file.getName() + " because the snapshot could not be saved");
+                return;
+            }
+            try {
+                channel.truncate(0);
+                channel.force(true);
+            } catch (IOException e) {
+                logger.severe("Failed to truncate " + file.getName() + ": " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * タスクを停止してジャーナルファイルを閉じる（バッファ内のイベントは書き込まれる）
+     */
+    public void close() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        if (compactTask != null) {
+            compactTask.cancel();
+            compactTask = null;
+        }
+
+        flush();
+        executor.execute(() -> {
+            if (channel == null) {
+                return;
+            }
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.warning("Failed to close " + file.getName() + ": " + e.getMessage());
+            }
+            channel = null;
+        });
+    }
+
+    /**
+     * イベントを1レコードとして書き込む
+     */
+    static void writeRecord(DataOutput out, JournalEvent event) throws IOException {
+        byte[] payload = encode(event);
+        out.writeInt(payload.length);
+        out.write(payload);
+        out.writeInt(checksum(payload));
+    }
+
+    private static byte[] encode(JournalEvent event) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(event.type().getCode());
+        out.writeUTF(event.team());
+        out.writeByte(event.values().size());
+        for (String value : event.values()) {
+            out.writeUTF(value);
+        }
+        out.writeLong(event.number());
+        return bytes.toByteArray();
+    }
+
+    private static JournalEvent decode(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        JournalEvent.Type type = JournalEvent.Type.fromCode(in.readUnsignedByte());
+        if (type == null) {
+            return null;
+        }
+        String team = in.readUTF();
+        int count = in.readUnsignedByte();
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(in.readUTF());
+        }
+        long number = in.readLong();
+        return new JournalEvent(type, team, values, number);
+    }
+
+    private static int checksum(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,125 @@
+package me.f0reach.timeattack.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ゲームデータジャーナルに記録される状態変更イベント
+ *
+ * @param type   イベントの種類
+ * @param team   対象のチーム名（チームに関係しないイベントの場合は空文字）
+ * @param values 文字列の値（種類ごとに意味が異なる）
+ * @param number 数値の値（種類ごとに意味が異なる）
+ */
+public record JournalEvent(Type type, String team, List<String> values, long number) {
+
+    /**
+     * イベントの種類（codeはジャーナルファイル上の識別子のため変更しないこと）
+     */
+    public enum Type {
+        SEED_SET(1),
+        GAME_STATE_SET(2),
+        START_TIME_SET(3),
+        IGT_TICKS_SET(4),
+        TEAM_CREATED(10),
+        TEAM_DELETED(11),
+        MEMBER_ADDED(12),
+        MEMBER_REMOVED(13),
+        TEAM_STATE_SET(14),
+        COMPLETION_RECORDED(15),
+        TEAM_WORLD_SET(16),
+        TEAM_COLOR_SET(17),
+        TEAM_SPLITS_SET(18),
+        CLEARED(20);
+
+        private final int code;
+
+        Type(int code) {
+            this.code = code;
+        }
+
+        public int getCode() {
+            return code;
+        }
+
+        public static Type fromCode(int code) {
+            for (Type type : values()) {
+                if (type.code == code) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+
+    public static JournalEvent seedSet(long seed) {
+        return new JournalEvent(Type.SEED_SET, "", List.of(), seed);
+    }
+
+    public static JournalEvent gameStateSet(String state) {
+        return new JournalEvent(Type.GAME_STATE_SET, "", List.of(state), 0);
+    }
+
+    public static JournalEvent startTimeSet(long startTime) {
+        return new JournalEvent(Type.START_TIME_SET, "", List.of(), startTime);
+    }
+
+    public static JournalEvent igtTicksSet(long igtTicks) {
+        return new JournalEvent(Type.IGT_TICKS_SET, "", List.of(), igtTicks);
+    }
+
+    public static JournalEvent teamCreated(String team) {
+        return new JournalEvent(Type.TEAM_CREATED, team, List.of(), 0);
+    }
+
+    public static JournalEvent teamDeleted(String team) {
+        return new JournalEvent(Type.TEAM_DELETED, team, List.of(), 0);
+    }
+
+    public static JournalEvent memberAdded(String team, UUID member) {
+        return new JournalEvent(Type.MEMBER_ADDED, team, List.of(member.toString()), 0);
+    }
+
+    public static JournalEvent memberRemoved(String team, UUID member) {
+        return new JournalEvent(Type.MEMBER_REMOVED, team, List.of(member.toString()), 0);
+    }
+
+    public static JournalEvent teamStateSet(String team, String state) {
+        return new JournalEvent(Type.TEAM_STATE_SET, team, List.of(state), 0);
+    }
+
+    public static JournalEvent completionRecorded(String team, long completionTime, long completionNanos, int tick,
+                                                  long igtTicks) {
+        return new JournalEvent(Type.COMPLETION_RECORDED, team,
+                List.of(String.valueOf(completionNanos), String.valueOf(tick), String.valueOf(igtTicks)),
+                completionTime);
+    }
+
+    public static JournalEvent teamWorldSet(String team, String overworld, String nether, String end) {
+        return new JournalEvent(Type.TEAM_WORLD_SET, team, List.of(overworld, nether, end), 0);
+    }
+
+    public static JournalEvent teamColorSet(String team, String color) {
+        return new JournalEvent(Type.TEAM_COLOR_SET, team, color != null ? List.of(color) : List.of(), 0);
+    }
+
+    public static JournalEvent teamSplitsSet(String team, List<SplitData> splits) {
+        List<String> values = new ArrayList<>(splits.size());
+        for (SplitData split : splits) {
+            values.add(split.encode());
+        }
+        return new JournalEvent(Type.TEAM_SPLITS_SET, team, values, 0);
+    }
+
+    public static JournalEvent cleared() {
+        return new JournalEvent(Type.CLEARED, "", List.of(), 0);
+    }
+
+    /**
+     * 最初の文字列値を取得
+     */
+    public String value() {
+        return values.isEmpty() ? null : values.get(0);
+    }
+}
@@ -0,0 +1,37 @@
+package me.f0reach.timeattack.storage;
+
+/**
+ * 永続化されるスプリットの記録
+ *
+ * @param key          スプリットのキー
+ * @param elapsedNanos 経過時間（ナノ秒）
+ * @param igtTicks     ゲーム内時間（tick数）
+ */
+public record SplitData(String key, long elapsedNanos, long igtTicks) {
+
+    /**
+     * 1行の文字列に変換（"経過ナノ秒,IGT tick,キー" の形式、キーは任意の文字を含められるよう末尾に置く）
+     */
+    public String encode() {
+        return elapsedNanos + "," + igtTicks + "," + key;
+    }
+
+    /**
+     * encode()で変換した文字列から復元
+     * @return 復元した記録、形式が不正な場合はnull
+     */
+    public static SplitData decode(String line) {
+        int first = line.indexOf(',');
+        int second = first >= 0 ? line.indexOf(',', first + 1) : -1;
+        if (second < 0) {
+            return null;
+        }
+        try {
+            return new SplitData(line.substring(second + 1),
+                    Long.parseLong(line.substring(0, first)),
+                    Long.parseLong(line.substring(first + 1, second)));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
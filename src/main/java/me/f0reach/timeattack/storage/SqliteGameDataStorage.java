@@ -0,0 +1,242 @@
+package me.f0reach.timeattack.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.*;
+import java.util.UUID;
+
+/**
+ * game-data.db に保存するストレージ（組み込みSQLiteデータベース）
+ * SQLiteのJDBCドライバはPaperサーバーに同梱されているものを使用する
+ */
+public class SqliteGameDataStorage implements GameDataStorage {
+    private final File file;
+    private Connection connection;
+
+    public SqliteGameDataStorage(File file) {
+        this.file = file;
+    }
+
+    @Override
+    public String getName() {
+        return file.getName();
+    }
+
+    @Override
+    public boolean exists() {
+        return file.exists() && file.length() > 0;
+    }
+
+    @Override
+    public synchronized GameData load() throws IOException {
+        GameData data = new GameData();
+        try {
+            Connection conn = getConnection();
+
+            try (Statement st = conn.createStatement();
+                 ResultSet rs = st.executeQuery("SELECT key, value FROM game_meta")) {
+                while (rs.next()) {
+                    String value = rs.getString("value");
+                    switch (rs.getString("key")) {
+                        case "current-seed" -> data.setCurrentSeed(Long.parseLong(value));
+                        case "game-state" -> data.setGameState(value);
+                        case "game-start-time" -> data.setGameStartTime(Long.parseLong(value));
+                        case "game-igt-ticks" -> data.setGameIgtTicks(Long.parseLong(value));
+                        default -> {
+                        }
+                    }
+                }
+            }
+
+            try (Statement st = conn.createStatement();
+                 ResultSet rs = st.executeQuery("SELECT * FROM teams ORDER BY sort_order")) {
+                while (rs.next()) {
+                    TeamData team = data.getOrCreateTeam(rs.getString("name"));
+                    String overworld = rs.getString("overworld");
+                    if (overworld != null) {
+                        team.setWorldSet(overworld, rs.getString("nether"), rs.getString("end_world"));
+                    }
+                    team.setState(rs.getString("state"));
+                    team.setCompletionTime(rs.getLong("completion_time"));
+                    team.setCompletionNanos(rs.getLong("completion_nanos"));
+                    team.setCompletionTick(rs.getInt("completion_tick"));
+                    team.setCompletionIgtTicks(rs.getLong("completion_igt_ticks"));
+                    team.setColor(rs.getString("color"));
+                }
+            }
+
+            try (Statement st = conn.createStatement();
+                 ResultSet rs = st.executeQuery("SELECT * FROM team_splits ORDER BY team, seq")) {
+                while (rs.next()) {
+                    TeamData team = data.getTeam(rs.getString("team"));
+                    if (team != null) {
+                        team.getSplits().add(new SplitData(rs.getString("split_key"),
+                                rs.getLong("elapsed_nanos"), rs.getLong("igt_ticks")));
+                    }
+                }
+            }
+
+            try (Statement st = conn.createStatement();
+                 ResultSet rs = st.executeQuery("SELECT team, uuid FROM team_members ORDER BY rowid")) {
+                while (rs.next()) {
+                    TeamData team = data.getTeam(rs.getString("team"));
+                    if (team == null) {
+                        continue;
+                    }
+                    try {
+                        team.getMembers().add(UUID.fromString(rs.getString("uuid")));
+                    } catch (IllegalArgumentException ignored) {
+                    }
+                }
+            }
+        } catch (SQLException | NumberFormatException e) {
+            throw new IOException("Failed to load " + file.getName(), e);
+        }
+        return data;
+    }
+
+    @Override
+    public synchronized void save(GameData data) throws IOException {
+        try {
+            Connection conn = getConnection();
+            conn.setAutoCommit(false);
+            try {
+                try (Statement st = conn.createStatement()) {
+                    st.executeUpdate("DELETE FROM game_meta");
+                    st.executeUpdate("DELETE FROM teams");
+                    st.executeUpdate("DELETE FROM team_members");
+                    st.executeUpdate("DELETE FROM team_splits");
+                }
+
+                try (PreparedStatement ps = conn.prepareStatement("INSERT INTO game_meta (key, value) VALUES (?, ?)")) {
+                    ps.setString(1, "current-seed");
+                    ps.setString(2, String.valueOf(data.getCurrentSeed()));
+                    ps.addBatch();
+                    ps.setString(1, "game-state");
+                    ps.setString(2, data.getGameState());
+                    ps.addBatch();
+                    ps.setString(1, "game-start-time");
+                    ps.setString(2, String.valueOf(data.getGameStartTime()));
+                    ps.addBatch();
+                    ps.setString(1, "game-igt-ticks");
+                    ps.setString(2, String.valueOf(data.getGameIgtTicks()));
+                    ps.addBatch();
+                    ps.executeBatch();
+                }
+
+                try (PreparedStatement teamPs = conn.prepareStatement(
+                        "INSERT INTO teams (name, overworld, nether, end_world, state, completion_time, "
+                                + "completion_nanos, completion_tick, completion_igt_ticks, color, sort_order) "
+                                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+                     PreparedStatement memberPs = conn.prepareStatement(
+                             "INSERT INTO team_members (team, uuid) VALUES (?, ?)");
+                     PreparedStatement splitPs = conn.prepareStatement(
+                             "INSERT INTO team_splits (team, seq, split_key, elapsed_nanos, igt_ticks) "
+                                     + "VALUES (?, ?, ?, ?, ?)")) {
+                    int order = 0;
+                    for (TeamData team : data.getTeams().values()) {
+                        teamPs.setString(1, team.getName());
+                        teamPs.setString(2, team.getOverworld());
+                        teamPs.setString(3, team.getNether());
+                        teamPs.setString(4, team.getEnd());
+                        teamPs.setString(5, team.getState());
+                        teamPs.setLong(6, team.getCompletionTime());
+                        teamPs.setLong(7, team.getCompletionNanos());
+                        teamPs.setInt(8, team.getCompletionTick());
+                        teamPs.setLong(9, team.getCompletionIgtTicks());
+                        teamPs.setString(10, team.getColor());
+                        teamPs.setInt(11, order++);
+                        teamPs.addBatch();
+
+                        for (UUID member : team.getMembers()) {
+                            memberPs.setString(1, team.getName());
+                            memberPs.setString(2, member.toString());
+                            memberPs.addBatch();
+                        }
+
+                        int seq = 0;
+                        for (SplitData split : team.getSplits()) {
+                            splitPs.setString(1, team.getName());
+                            splitPs.setInt(2, seq++);
+                            splitPs.setString(3, split.key());
+                            splitPs.setLong(4, split.elapsedNanos());
+                            splitPs.setLong(5, split.igtTicks());
+                            splitPs.addBatch();
+                        }
+                    }
+                    teamPs.executeBatch();
+                    memberPs.executeBatch();
+                    splitPs.executeBatch();
+                }
+
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new IOException("Failed to save " + file.getName(), e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+            }
+            connection = null;
+        }
+    }
+
+    private Connection getConnection() throws SQLException {
+        if (connection != null && !connection.isClosed()) {
+            return connection;
+        }
+
+        try {
+            Class.forName("org.sqlite.JDBC");
+        } catch (ClassNotFoundException e) {
+            throw new SQLException("SQLite JDBC driver is not available on this server", e);
+        }
+
+        connection = DriverManager.getConnection("jdbc:sqlite:" + file.getAbsolutePath());
+        try (Statement st = connection.createStatement()) {
+            st.execute("PRAGMA journal_mode=WAL");
+            st.execute("CREATE TABLE IF NOT EXISTS game_meta (key TEXT PRIMARY KEY, value TEXT NOT NULL)");
+            st.execute("CREATE TABLE IF NOT EXISTS teams (name TEXT PRIMARY KEY, overworld TEXT, nether TEXT, "
+                    + "end_world TEXT, state TEXT NOT NULL, completion_time INTEGER NOT NULL, "
+                    + "completion_nanos INTEGER NOT NULL DEFAULT -1, completion_tick INTEGER NOT NULL DEFAULT -1, "
+                    + "completion_igt_ticks INTEGER NOT NULL DEFAULT -1, color TEXT, sort_order INTEGER NOT NULL)");
+            st.execute("CREATE TABLE IF NOT EXISTS team_members (team TEXT NOT NULL, uuid TEXT NOT NULL, "
+                    + "PRIMARY KEY (team, uuid))");
+            st.execute("CREATE TABLE IF NOT EXISTS team_splits (team TEXT NOT NULL, seq INTEGER NOT NULL, "
+                    + "split_key TEXT NOT NULL, elapsed_nanos INTEGER NOT NULL, igt_ticks INTEGER NOT NULL, "
+                    + "PRIMARY KEY (team, seq))");
+        }
+        addColumnIfMissing("teams", "completion_nanos", "INTEGER NOT NULL DEFAULT -1");
+        addColumnIfMissing("teams", "completion_tick", "INTEGER NOT NULL DEFAULT -1");
+        addColumnIfMissing("teams", "completion_igt_ticks", "INTEGER NOT NULL DEFAULT -1");
+        return connection;
+    }
+
+    /**
+     * 古いスキーマのデータベースに列を追加する
+     */
+    private void addColumnIfMissing(String table, String column, String definition) throws SQLException {
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("PRAGMA table_info(" + table + ")")) {
+            while (rs.next()) {
+                if (column.equalsIgnoreCase(rs.getString("name"))) {
+                    return;
+                }
+            }
+        }
+        try (Statement st = connection.createStatement()) {
+            st.execute("ALTER TABLE " + table + " ADD COLUMN " + column + " " + definition);
+        }
+    }
+}
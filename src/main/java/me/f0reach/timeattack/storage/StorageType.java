@@ -0,0 +1,50 @@
+package me.f0reach.timeattack.storage;
+
+import java.io.File;
+
+/**
+ * 利用可能なストレージバックエンドの種類
+ */
+public enum StorageType {
+    /**
+     * game-data.yml（従来の形式）
+     */
+    YAML,
+
+    /**
+     * game-data.bin（コンパクトなバイナリ形式）
+     */
+    BINARY,
+
+    /**
+     * game-data.db（組み込みSQLiteデータベース）
+     */
+    SQLITE;
+
+    /**
+     * 設定値から種類を取得（未設定の場合はYAML）
+     *
+     * @throws IllegalArgumentException 不明な値の場合
+     */
+    public static StorageType fromConfig(String value) {
+        if (value == null) {
+            return YAML;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("unknown storage backend: " + value);
+        }
+    }
+
+    /**
+     * 指定したデータフォルダにストレージを作成
+     */
+    public GameDataStorage create(File dataFolder) {
+        return switch (this) {
+            case YAML -> new YamlGameDataStorage(new File(dataFolder, "game-data.yml"));
+            case BINARY -> new BinaryGameDataStorage(new File(dataFolder, "game-data.bin"));
+            case SQLITE -> new SqliteGameDataStorage(new File(dataFolder, "game-data.db"));
+        };
+    }
+}
@@ -0,0 +1,144 @@
+package me.f0reach.timeattack.storage;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 永続化用のチームデータ
+ */
+public class TeamData {
+    private final String name;
+    private final Set<UUID> members;
+    private final List<SplitData> splits;
+    private String overworld;
+    private String nether;
+    private String end;
+    private String state;
+    private long completionTime;
+    private long completionNanos;
+    private int completionTick;
+    private long completionIgtTicks;
+    private String color;
+
+    public TeamData(String name) {
+        this.name = name;
+        this.members = new LinkedHashSet<>();
+        this.splits = new ArrayList<>();
+        this.state = "WAITING";
+        this.completionTime = -1;
+        this.completionNanos = -1;
+        this.completionTick = -1;
+        this.completionIgtTicks = -1;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Set<UUID> getMembers() {
+        return members;
+    }
+
+    /**
+     * スプリットの記録（古い順）
+     */
+    public List<SplitData> getSplits() {
+        return splits;
+    }
+
+    /**
+     * ワールドセットが設定されているか確認
+     */
+    public boolean hasWorldSet() {
+        return overworld != null;
+    }
+
+    public String getOverworld() {
+        return overworld;
+    }
+
+    public String getNether() {
+        return nether;
+    }
+
+    public String getEnd() {
+        return end;
+    }
+
+    /**
+     * ワールドセットのワールド名を設定
+     */
+    public void setWorldSet(String overworld, String nether, String end) {
+        this.overworld = overworld;
+        this.nether = nether;
+        this.end = end;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public long getCompletionTime() {
+        return completionTime;
+    }
+
+    public void setCompletionTime(long completionTime) {
+        this.completionTime = completionTime;
+    }
+
+    public long getCompletionNanos() {
+        return completionNanos;
+    }
+
+    public void setCompletionNanos(long completionNanos) {
+        this.completionNanos = completionNanos;
+    }
+
+    public int getCompletionTick() {
+        return completionTick;
+    }
+
+    public void setCompletionTick(int completionTick) {
+        this.completionTick = completionTick;
+    }
+
+    public long getCompletionIgtTicks() {
+        return completionIgtTicks;
+    }
+
+    public void setCompletionIgtTicks(long completionIgtTicks) {
+        this.completionIgtTicks = completionIgtTicks;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public void setColor(String color) {
+        this.color = color;
+    }
+
+    /**
+     * ディープコピーを作成
+     */
+    public TeamData copy() {
+        TeamData copy = new TeamData(name);
+        copy.members.addAll(members);
+        copy.setWorldSet(overworld, nether, end);
+        copy.state = state;
+        copy.completionTime = completionTime;
+        copy.completionNanos = completionNanos;
+        copy.completionTick = completionTick;
+        copy.completionIgtTicks = completionIgtTicks;
+        copy.splits.addAll(splits);
+        copy.color = color;
+        return copy;
+    }
+}
@@ -0,0 +1,129 @@
+package me.f0reach.timeattack.storage;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * game-data.yml に保存するストレージ（従来の形式）
+ */
+public class YamlGameDataStorage extends FileGameDataStorage {
+
+    public YamlGameDataStorage(File file) {
+        super(file);
+    }
+
+    @Override
+    public GameData load() {
+        GameData data = new GameData();
+        if (!file.exists()) {
+            return data;
+        }
+
+        YamlConfiguration yaml = YamlConfiguration.loadConfiguration(file);
+        data.setCurrentSeed(yaml.getLong("current-seed", 0));
+        data.setGameState(yaml.getString("game-state", "WAITING"));
+        data.setGameStartTime(yaml.getLong("game-start-time", 0));
+        data.setGameIgtTicks(yaml.getLong("game-igt-ticks", 0));
+
+        ConfigurationSection teamsSection = yaml.getConfigurationSection("teams");
+        if (teamsSection == null) {
+            return data;
+        }
+
+        for (String teamName : teamsSection.getKeys(false)) {
+            String path = "teams." + teamName;
+            TeamData team = data.getOrCreateTeam(teamName);
+
+            // メンバー読み込み
+            for (String uuidStr : yaml.getStringList(path + ".members")) {
+                try {
+                    team.getMembers().add(UUID.fromString(uuidStr));
+                } catch (IllegalArgumentException ignored) {
+                }
+            }
+
+            // ワールドセット
+            if (yaml.contains(path + ".world-set.overworld")) {
+                team.setWorldSet(
+                        yaml.getString(path + ".world-set.overworld"),
+                        yaml.getString(path + ".world-set.nether"),
+                        yaml.getString(path + ".world-set.end"));
+            }
+
+            team.setState(yaml.getString(path + ".state", "WAITING"));
+            team.setCompletionTime(yaml.getLong(path + ".completion-time", -1));
+            team.setCompletionNanos(yaml.getLong(path + ".completion-nanos", -1));
+            team.setCompletionTick(yaml.getInt(path + ".completion-tick", -1));
+            team.setCompletionIgtTicks(yaml.getLong(path + ".completion-igt-ticks", -1));
+            for (String line : yaml.getStringList(path + ".splits")) {
+                SplitData split = SplitData.decode(line);
+                if (split != null) {
+                    team.getSplits().add(split);
+                }
+            }
+            team.setColor(yaml.getString(path + ".color", null));
+        }
+
+        return data;
+    }
+
+    @Override
+    public void save(GameData data) throws IOException {
+        YamlConfiguration yaml = new YamlConfiguration();
+        if (data.getCurrentSeed() != 0) {
+            yaml.set("current-seed", data.getCurrentSeed());
+        }
+        yaml.set("game-state", data.getGameState());
+        if (data.getGameStartTime() > 0) {
+            yaml.set("game-start-time", data.getGameStartTime());
+        }
+        if (data.getGameIgtTicks() > 0) {
+            yaml.set("game-igt-ticks", data.getGameIgtTicks());
+        }
+
+        for (TeamData team : data.getTeams().values()) {
+            String path = "teams." + team.getName();
+
+            // メンバーをUUID文字列リストとして保存
+            List<String> memberStrings = new ArrayList<>();
+            for (UUID uuid : team.getMembers()) {
+                memberStrings.add(uuid.toString());
+            }
+            yaml.set(path + ".members", memberStrings);
+
+            // ワールドセット情報
+            if (team.hasWorldSet()) {
+                yaml.set(path + ".world-set.overworld", team.getOverworld());
+                yaml.set(path + ".world-set.nether", team.getNether());
+                yaml.set(path + ".world-set.end", team.getEnd());
+            }
+
+            yaml.set(path + ".state", team.getState());
+            yaml.set(path + ".completion-time", team.getCompletionTime());
+            if (team.getCompletionNanos() >= 0) {
+                yaml.set(path + ".completion-nanos", team.getCompletionNanos());
+                yaml.set(path + ".completion-tick", team.getCompletionTick());
+            }
+            if (team.getCompletionIgtTicks() >= 0) {
+                yaml.set(path + ".completion-igt-ticks", team.getCompletionIgtTicks());
+            }
+            if (!team.getSplits().isEmpty()) {
+                List<String> splitStrings = new ArrayList<>();
+                for (SplitData split : team.getSplits()) {
+                    splitStrings.add(split.encode());
+                }
+                yaml.set(path + ".splits", splitStrings);
+            }
+            yaml.set(path + ".color", team.getColor());
+        }
+
+        writeAtomically(yaml.saveToString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,5 +1,6 @@
 package me.f0reach.timeattack.util;
 
+import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
@@ -24,10 +25,10 @@ public final class MessageUtil {
     }
 
     /**
-     * プレフィックス付きのメッセージを送信
+     * プレフィックス付きのメッセージを送信（チームのAudienceにも送信可能）
      */
-    public static void sendMessage(Player player, Component message) {
-        player.sendMessage(Component.text(prefix)
+    public static void sendMessage(Audience audience, Component message) {
+        audience.sendMessage(Component.text(prefix)
                 .color(NamedTextColor.GOLD)
                 .append(message));
     }
@@ -44,8 +45,8 @@ public final class MessageUtil {
     /**
      * プレフィックス付きの情報メッセージを送信
      */
-    public static void sendInfo(Player player, String message) {
-        sendMessage(player, Component.text(message).color(NamedTextColor.WHITE));
+    public static void sendInfo(Audience audience, String message) {
+        sendMessage(audience, Component.text(message).color(NamedTextColor.WHITE));
     }
 
     /**
@@ -90,13 +91,13 @@ public final class MessageUtil {
     /**
      * タイトルを表示
      */
-    public static void showTitle(Player player, String title, String subtitle) {
+    public static void showTitle(Audience audience, String title, String subtitle) {
         Title.Times times = Title.Times.times(
             Duration.ofMillis(500),
             Duration.ofSeconds(3),
             Duration.ofMillis(500)
         );
-        player.showTitle(Title.title(
+        audience.showTitle(Title.title(
             Component.text(title).color(NamedTextColor.GOLD).decorate(TextDecoration.BOLD),
             Component.text(subtitle).color(NamedTextColor.WHITE),
             times
@@ -115,8 +116,8 @@ public final class MessageUtil {
     /**
      * アクションバーにメッセージを表示
      */
-    public static void showActionBar(Player player, String message) {
-        player.sendActionBar(Component.text(message).color(NamedTextColor.GREEN));
+    public static void showActionBar(Audience audience, String message) {
+        audience.sendActionBar(Component.text(message).color(NamedTextColor.GREEN));
     }
 
     /**
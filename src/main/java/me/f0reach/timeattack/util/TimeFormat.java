@@ -0,0 +1,180 @@
+package me.f0reach.timeattack.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 経過時間の書式（"HH:mm:ss.SSS" などのパターンを一度だけ解析して再利用する）
+ * 書式化時はStringBuilderに数字を直接追加し、途中でオブジェクトを生成しない
+ *
+ * 使用できる文字: H（時）, m（分）, s（秒）, S（秒未満、桁数で精度を指定）
+ * 英字以外の文字と ' で囲んだ文字列はそのまま出力される
+ * パターン内で最も大きい単位は繰り上がらない（例: "mm:ss" では90分を "90:00" と表示）
+ */
+public final class TimeFormat {
+    public static final String DEFAULT_PATTERN = "HH:mm:ss.SSS";
+
+    private static final byte LITERAL = 0;
+    private static final byte HOURS = 1;
+    private static final byte MINUTES = 2;
+    private static final byte SECONDS = 3;
+    private static final byte FRACTION = 4;
+
+    private final String pattern;
+    private final byte[] fields;
+    private final int[] widths;
+    private final String[] literals;
+    private final byte largestUnit;
+    private final String placeholder;
+
+    private TimeFormat(String pattern, byte[] fields, int[] widths, String[] literals) {
+        this.pattern = pattern;
+        this.fields = fields;
+        this.widths = widths;
+        this.literals = literals;
+
+        byte largest = FRACTION;
+        for (byte field : fields) {
+            if (field != LITERAL && field < largest) {
+                largest = field;
+            }
+        }
+        this.largestUnit = largest;
+
+        // 時間が不明な場合の表示（数字部分を"-"に置き換える）
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] == LITERAL) {
+                sb.append(literals[i]);
+            } else {
+                for (int j = 0; j < widths[i]; j++) {
+                    sb.append('-');
+                }
+            }
+        }
+        this.placeholder = sb.toString();
+    }
+
+    /**
+     * パターンを解析する
+     * @throws IllegalArgumentException パターンに未対応の英字が含まれる場合
+     */
+    public static TimeFormat compile(String pattern) {
+        List<Byte> fields = new ArrayList<>();
+        List<Integer> widths = new ArrayList<>();
+        List<String> literals = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                int end = pattern.indexOf('\'', i + 1);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Unterminated quote in time format: " + pattern);
+                }
+                // '' は ' そのもの
+                literal.append(end == i + 1 ? "'" : pattern.substring(i + 1, end));
+                i = end + 1;
+                continue;
+            }
+
+            byte field = switch (c) {
+                case 'H' -> HOURS;
+                case 'm' -> MINUTES;
+                case 's' -> SECONDS;
+                case 'S' -> FRACTION;
+                default -> LITERAL;
+            };
+            if (field == LITERAL) {
+                // SimpleDateFormatと同様にASCIIの英字のみ予約し、日本語などはそのまま表示する
+                if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                    throw new IllegalArgumentException("Unsupported character '" + c + "' in time format: " + pattern);
+                }
+                literal.append(c);
+                i++;
+                continue;
+            }
+
+            int width = 1;
+            while (i + width < pattern.length() && pattern.charAt(i + width) == c) {
+                width++;
+            }
+            if (!literal.isEmpty()) {
+                fields.add(LITERAL);
+                widths.add(0);
+                literals.add(literal.toString());
+                literal.setLength(0);
+            }
+            fields.add(field);
+            widths.add(width);
+            literals.add(null);
+            i += width;
+        }
+        if (!literal.isEmpty()) {
+            fields.add(LITERAL);
+            widths.add(0);
+            literals.add(literal.toString());
+        }
+
+        byte[] fieldArray = new byte[fields.size()];
+        int[] widthArray = new int[widths.size()];
+        for (int j = 0; j < fieldArray.length; j++) {
+            fieldArray[j] = fields.get(j);
+            widthArray[j] = widths.get(j);
+        }
+        return new TimeFormat(pattern, fieldArray, widthArray, literals.toArray(new String[0]));
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * 経過時間を書式化してStringBuilderに追加する（オブジェクトを生成しない）
+     * @param millis 経過時間（ミリ秒）、負の場合は数字部分を"-"で表示
+     */
+    public StringBuilder appendTo(StringBuilder sb, long millis) {
+        if (millis < 0) {
+            return sb.append(placeholder);
+        }
+
+        for (int i = 0; i < fields.length; i++) {
+            switch (fields[i]) {
+                case LITERAL -> sb.append(literals[i]);
+                case HOURS -> TimeUtil.appendPadded(sb, millis / 3_600_000L, widths[i]);
+                case MINUTES -> TimeUtil.appendPadded(sb,
+                        largestUnit == MINUTES ? millis / 60_000L : (millis / 60_000L) % 60, widths[i]);
+                case SECONDS -> TimeUtil.appendPadded(sb,
+                        largestUnit == SECONDS ? millis / 1000L : (millis / 1000L) % 60, widths[i]);
+                case FRACTION -> appendFraction(sb, millis % 1000L, widths[i]);
+                default -> {
+                }
+            }
+        }
+        return sb;
+    }
+
+    /**
+     * 経過時間を書式化した文字列を取得
+     */
+    public String format(long millis) {
+        return appendTo(new StringBuilder(placeholder.length() + 4), millis).toString();
+    }
+
+    /**
+     * 秒未満を指定桁数で追加（3桁を超える部分は0で埋める）
+     */
+    private static void appendFraction(StringBuilder sb, long ms, int digits) {
+        switch (digits) {
+            case 1 -> sb.append((char) ('0' + ms / 100));
+            case 2 -> TimeUtil.appendPadded(sb, ms / 10, 2);
+            default -> {
+                TimeUtil.appendPadded(sb, ms, 3);
+                for (int i = 3; i < digits; i++) {
+                    sb.append('0');
+                }
+            }
+        }
+    }
+}
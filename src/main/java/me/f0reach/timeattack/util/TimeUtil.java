@@ -2,33 +2,52 @@ package me.f0reach.timeattack.util;
 
 /**
  * 時間フォーマットユーティリティ
+ * 書式化は文字を直接追加して行い、String.formatは使わない
  */
 public final class TimeUtil {
+    private static volatile TimeFormat format = TimeFormat.compile(TimeFormat.DEFAULT_PATTERN);
+
     private TimeUtil() {
     }
 
     /**
-     * ミリ秒を HH:mm:ss.SSS 形式にフォーマット
+     * formatTime() で使う書式を設定（設定ファイルの time.format）
      */
-    public static String formatTime(long millis) {
-        if (millis < 0) {
-            return "--:--:--.---";
-        }
+    public static void setFormat(TimeFormat newFormat) {
+        format = newFormat;
+    }
 
-        long hours = millis / 3600000;
-        long minutes = (millis % 3600000) / 60000;
-        long seconds = (millis % 60000) / 1000;
-        long ms = millis % 1000;
+    public static TimeFormat getFormat() {
+        return format;
+    }
 
-        return String.format("%02d:%02d:%02d.%03d", hours, minutes, seconds, ms);
+    /**
+     * ミリ秒を設定された書式（デフォルト: HH:mm:ss.SSS）にフォーマット
+     */
+    public static String formatTime(long millis) {
+        return format.format(millis);
+    }
+
+    /**
+     * ミリ秒を設定された書式でStringBuilderに追加
+     */
+    public static StringBuilder appendTime(StringBuilder sb, long millis) {
+        return format.appendTo(sb, millis);
     }
 
     /**
      * ミリ秒を mm:ss 形式にフォーマット（短縮版）
      */
     public static String formatTimeShort(long millis) {
+        return appendTimeShort(new StringBuilder(8), millis).toString();
+    }
+
+    /**
+     * ミリ秒を mm:ss 形式（1時間以上は H:mm:ss）でStringBuilderに追加
+     */
+    public static StringBuilder appendTimeShort(StringBuilder sb, long millis) {
         if (millis < 0) {
-            return "--:--";
+            return sb.append("--:--");
         }
 
         long totalSeconds = millis / 1000;
@@ -36,12 +55,12 @@ public final class TimeUtil {
         long seconds = totalSeconds % 60;
 
         if (minutes >= 60) {
-            long hours = minutes / 60;
+            sb.append(minutes / 60).append(':');
             minutes = minutes % 60;
-            return String.format("%d:%02d:%02d", hours, minutes, seconds);
         }
-
-        return String.format("%02d:%02d", minutes, seconds);
+        appendPadded(sb, minutes, 2);
+        sb.append(':');
+        return appendPadded(sb, seconds, 2);
     }
 
     /**
@@ -65,8 +84,24 @@ public final class TimeUtil {
         if (minutes > 0 || hours > 0) {
             sb.append(minutes).append("分");
         }
-        sb.append(seconds).append(".").append(String.format("%03d", ms)).append("秒");
+        sb.append(seconds).append(".");
+        appendPadded(sb, ms, 3);
+        sb.append("秒");
 
         return sb.toString();
     }
+
+    /**
+     * 0以上の数値を指定桁数になるよう0埋めして追加（桁数を超える場合はそのまま）
+     */
+    static StringBuilder appendPadded(StringBuilder sb, long value, int width) {
+        long limit = 10;
+        for (int digits = 1; digits < width; digits++) {
+            if (value < limit) {
+                sb.append('0');
+            }
+            limit *= 10;
+        }
+        return sb.append(value);
+    }
 }
@@ -0,0 +1,96 @@
+package me.f0reach.timeattack.util;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Set;
+
+/**
+ * ワールドフォルダのファイル操作ユーティリティ
+ */
+public final class WorldFiles {
+    /**
+     * コピーしないファイル（uid.datをコピーするとワールドUIDが重複する）
+     */
+    public static final Set<String> COPY_EXCLUDES = Set.of("uid.dat", "session.lock");
+
+    private WorldFiles() {
+    }
+
+    /**
+     * ワールドフォルダとして読み込める状態か確認
+     */
+    public static boolean isWorldFolder(Path folder) {
+        return Files.isRegularFile(folder.resolve("level.dat"));
+    }
+
+    /**
+     * ワールドフォルダを再帰的にコピー（ファイル内容はFileChannel.transferToで転送する）
+     *
+     * @return コピーしたバイト数
+     */
+    public static long copyWorldFolder(Path source, Path target) throws IOException {
+        if (Files.exists(target)) {
+            throw new FileAlreadyExistsException(target.toString());
+        }
+
+        long[] copied = new long[1];
+        Files.walkFileTree(source, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                Files.createDirectories(target.resolve(source.relativize(dir)));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                if (!COPY_EXCLUDES.contains(file.getFileName().toString())) {
+                    copied[0] += copyFile(file, target.resolve(source.relativize(file)));
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return copied[0];
+    }
+
+    /**
+     * ファイルをコピー（同一ファイルシステムではカーネル内で転送される）
+     */
+    private static long copyFile(Path source, Path target) throws IOException {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long size = in.size();
+            long position = 0;
+            while (position < size) {
+                position += in.transferTo(position, size - position, out);
+            }
+            return size;
+        }
+    }
+
+    /**
+     * ワールドフォルダを再帰的に削除
+     */
+    public static void deleteWorldFolder(Path folder) throws IOException {
+        if (!Files.exists(folder)) {
+            return;
+        }
+        Files.walkFileTree(folder, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.delete(file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+                if (exc != null) {
+                    throw exc;
+                }
+                Files.delete(dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+}
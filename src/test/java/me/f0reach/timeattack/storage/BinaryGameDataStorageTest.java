@@ -0,0 +1,214 @@
+package me.f0reach.timeattack.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryGameDataStorageTest {
+    private static final int MAGIC = 0x54414744;
+
+    @TempDir
+    File folder;
+
+    @Test
+    void saveAndLoadRoundTrip() throws IOException {
+        GameData data = new GameData();
+        data.setCurrentSeed(-42L);
+        data.setGameState("RUNNING");
+        data.setGameStartTime(1_700_000_000_000L);
+        data.setGameIgtTicks(2400L);
+
+        TeamData red = data.getOrCreateTeam("赤チーム");
+        red.setWorldSet("ta_red", "ta_red_nether", "ta_red_the_end");
+        red.setState("FINISHED");
+        red.setCompletionTime(600_000L);
+        red.setCompletionNanos(600_000_000_000L);
+        red.setCompletionTick(12000);
+        red.setCompletionIgtTicks(11990L);
+        red.setColor("RED");
+        red.getMembers().add(new UUID(1, 2));
+        red.getMembers().add(new UUID(3, 4));
+        red.getSplits().add(new SplitData("nether", 1_000L, 20L));
+        red.getSplits().add(new SplitData("end,portal", 2_000L, 40L));
+
+        data.getOrCreateTeam("blue");
+
+        BinaryGameDataStorage storage = new BinaryGameDataStorage(new File(folder, "game-data.bin"));
+        storage.save(data);
+        GameData loaded = storage.load();
+
+        assertEquals(-42L, loaded.getCurrentSeed());
+        assertEquals("RUNNING", loaded.getGameState());
+        assertEquals(1_700_000_000_000L, loaded.getGameStartTime());
+        assertEquals(2400L, loaded.getGameIgtTicks());
+        assertEquals(List.of("赤チーム", "blue"), new ArrayList<>(loaded.getTeams().keySet()));
+
+        TeamData loadedRed = loaded.getTeam("赤チーム");
+        assertEquals("ta_red", loadedRed.getOverworld());
+        assertEquals("ta_red_nether", loadedRed.getNether());
+        assertEquals("ta_red_the_end", loadedRed.getEnd());
+        assertEquals("FINISHED", loadedRed.getState());
+        assertEquals(600_000L, loadedRed.getCompletionTime());
+        assertEquals(600_000_000_000L, loadedRed.getCompletionNanos());
+        assertEquals(12000, loadedRed.getCompletionTick());
+        assertEquals(11990L, loadedRed.getCompletionIgtTicks());
+        assertEquals("RED", loadedRed.getColor());
+        assertEquals(List.of(new UUID(1, 2), new UUID(3, 4)), new ArrayList<>(loadedRed.getMembers()));
+        assertEquals(red.getSplits(), loadedRed.getSplits());
+
+        TeamData loadedBlue = loaded.getTeam("blue");
+        assertFalse(loadedBlue.hasWorldSet());
+        assertEquals("WAITING", loadedBlue.getState());
+        assertEquals(-1L, loadedBlue.getCompletionTime());
+        assertNull(loadedBlue.getColor());
+        assertTrue(loadedBlue.getMembers().isEmpty());
+        assertTrue(loadedBlue.getSplits().isEmpty());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3})
+    void loadsOlderVersions(int version) throws IOException {
+        File file = new File(folder, "game-data.bin");
+        writeLegacy(file, version);
+
+        GameData loaded = new BinaryGameDataStorage(file).load();
+
+        assertEquals(12345L, loaded.getCurrentSeed());
+        assertEquals("FINISHED", loaded.getGameState());
+        assertEquals(1_700_000_000_000L, loaded.getGameStartTime());
+        assertEquals(version >= 3 ? 2400L : 0L, loaded.getGameIgtTicks());
+        assertEquals(List.of("赤チーム", "blue"), new ArrayList<>(loaded.getTeams().keySet()));
+
+        TeamData red = loaded.getTeam("赤チーム");
+        assertEquals("ta_red", red.getOverworld());
+        assertEquals("ta_red_nether", red.getNether());
+        assertEquals("ta_red_the_end", red.getEnd());
+        assertEquals("FINISHED", red.getState());
+        assertEquals(600_000L, red.getCompletionTime());
+        assertEquals(version >= 2 ? 600_000_000_000L : -1L, red.getCompletionNanos());
+        assertEquals(version >= 2 ? 12000 : -1, red.getCompletionTick());
+        assertEquals(version >= 3 ? 11990L : -1L, red.getCompletionIgtTicks());
+        assertEquals("RED", red.getColor());
+        assertEquals(List.of(new UUID(1, 2)), new ArrayList<>(red.getMembers()));
+        assertTrue(red.getSplits().isEmpty());
+
+        TeamData blue = loaded.getTeam("blue");
+        assertFalse(blue.hasWorldSet());
+        assertEquals("PLAYING", blue.getState());
+        assertNull(blue.getColor());
+        assertEquals(List.of(new UUID(5, 6), new UUID(7, 8)), new ArrayList<>(blue.getMembers()));
+    }
+
+    @Test
+    void olderVersionIsUpgradedOnSave() throws IOException {
+        File file = new File(folder, "game-data.bin");
+        writeLegacy(file, 1);
+
+        BinaryGameDataStorage storage = new BinaryGameDataStorage(file);
+        GameData loaded = storage.load();
+        storage.save(loaded);
+        GameData reloaded = storage.load();
+
+        assertEquals(loaded.getCurrentSeed(), reloaded.getCurrentSeed());
+        assertEquals(loaded.getTeams().keySet(), reloaded.getTeams().keySet());
+        assertEquals(-1L, reloaded.getTeam("赤チーム").getCompletionNanos());
+        assertEquals(loaded.getTeam("blue").getMembers(), reloaded.getTeam("blue").getMembers());
+    }
+
+    @Test
+    void rejectsUnknownVersion() throws IOException {
+        File file = new File(folder, "game-data.bin");
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+            out.writeInt(MAGIC);
+            out.writeInt(99);
+        }
+
+        assertThrows(IOException.class, () -> new BinaryGameDataStorage(file).load());
+    }
+
+    @Test
+    void rejectsForeignFile() throws IOException {
+        File file = new File(folder, "game-data.bin");
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+            out.writeInt(0x12345678);
+            out.writeInt(4);
+        }
+
+        assertThrows(IOException.class, () -> new BinaryGameDataStorage(file).load());
+    }
+
+    @Test
+    void loadsEmptyDataWhenFileMissing() throws IOException {
+        GameData loaded = new BinaryGameDataStorage(new File(folder, "missing.bin")).load();
+
+        assertEquals("WAITING", loaded.getGameState());
+        assertTrue(loaded.getTeams().isEmpty());
+    }
+
+    /**
+     * 以前のバージョンの形式で書き込む（BinaryGameDataStorageのクラスコメントの形式）
+     */
+    private static void writeLegacy(File file, int version) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+            out.writeInt(MAGIC);
+            out.writeInt(version);
+            out.writeLong(12345L);
+            out.writeUTF("FINISHED");
+            out.writeLong(1_700_000_000_000L);
+            if (version >= 3) {
+                out.writeLong(2400L);
+            }
+
+            out.writeInt(2);
+
+            out.writeUTF("赤チーム");
+            out.writeBoolean(true);
+            out.writeUTF("ta_red");
+            out.writeUTF("ta_red_nether");
+            out.writeUTF("ta_red_the_end");
+            out.writeUTF("FINISHED");
+            out.writeLong(600_000L);
+            if (version >= 2) {
+                out.writeLong(600_000_000_000L);
+                out.writeInt(12000);
+            }
+            if (version >= 3) {
+                out.writeLong(11990L);
+            }
+            out.writeBoolean(true);
+            out.writeUTF("RED");
+            out.writeInt(1);
+            out.writeLong(1);
+            out.writeLong(2);
+
+            out.writeUTF("blue");
+            out.writeBoolean(false);
+            out.writeUTF("PLAYING");
+            out.writeLong(-1L);
+            if (version >= 2) {
+                out.writeLong(-1L);
+                out.writeInt(-1);
+            }
+            if (version >= 3) {
+                out.writeLong(-1L);
+            }
+            out.writeBoolean(false);
+            out.writeInt(2);
+            out.writeLong(5);
+            out.writeLong(6);
+            out.writeLong(7);
+            out.writeLong(8);
+        }
+    }
+}
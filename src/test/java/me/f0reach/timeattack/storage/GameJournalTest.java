@@ -0,0 +1,184 @@
+package me.f0reach.timeattack.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameJournalTest {
+    private static final Logger LOGGER = Logger.getLogger(GameJournalTest.class.getName());
+
+    @TempDir
+    File folder;
+
+    @Test
+    void replayReturnsEventsInOrder() throws IOException {
+        File file = new File(folder, "game-data.journal");
+        List<JournalEvent> events = sampleEvents();
+        write(file, events);
+
+        List<JournalEvent> replayed = new ArrayList<>();
+        int count = journal(file).replay(replayed::add);
+
+        assertEquals(events.size(), count);
+        assertEquals(events, replayed);
+    }
+
+    @Test
+    void replayRebuildsGameData() throws IOException {
+        File file = new File(folder, "game-data.journal");
+        write(file, sampleEvents());
+
+        GameData data = new GameData();
+        journal(file).replay(data::apply);
+
+        assertEquals(12345L, data.getCurrentSeed());
+        assertEquals("RUNNING", data.getGameState());
+        assertEquals(1_700_000_000_000L, data.getGameStartTime());
+        assertEquals(2400L, data.getGameIgtTicks());
+
+        TeamData red = data.getTeam("赤チーム");
+        assertNotNull(red);
+        assertEquals("FINISHED", red.getState());
+        assertEquals(List.of(new UUID(2, 2)), new ArrayList<>(red.getMembers()));
+        assertEquals("ta_red", red.getOverworld());
+        assertEquals("ta_red_nether", red.getNether());
+        assertEquals("ta_red_the_end", red.getEnd());
+        assertEquals("RED", red.getColor());
+        assertEquals(600_000L, red.getCompletionTime());
+        assertEquals(600_000_000_000L, red.getCompletionNanos());
+        assertEquals(12000, red.getCompletionTick());
+        assertEquals(11990L, red.getCompletionIgtTicks());
+        assertEquals(List.of(new SplitData("nether", 1_000L, 20L), new SplitData("end,portal", 2_000L, 40L)),
+                red.getSplits());
+
+        assertNull(data.getTeam("blue"));
+    }
+
+    @Test
+    void replayEmptyWhenFileMissing() {
+        File file = new File(folder, "missing.journal");
+
+        assertEquals(0, journal(file).replay(event -> fail("unexpected event " + event)));
+        assertFalse(file.exists());
+    }
+
+    @Test
+    void replayDiscardsTornLastRecord() throws IOException {
+        File file = new File(folder, "game-data.journal");
+        List<JournalEvent> events = sampleEvents();
+        write(file, events.subList(0, events.size() - 1));
+        long validLength = file.length();
+        write(file, events);
+
+        // 最後のレコードの書き込み途中でクラッシュした状態
+        truncate(file, file.length() - 3);
+
+        List<JournalEvent> replayed = new ArrayList<>();
+        int count = journal(file).replay(replayed::add);
+
+        assertEquals(events.size() - 1, count);
+        assertEquals(events.subList(0, events.size() - 1), replayed);
+        assertEquals(validLength, file.length());
+    }
+
+    @Test
+    void replayDiscardsTornLengthField() throws IOException {
+        File file = new File(folder, "game-data.journal");
+        List<JournalEvent> events = sampleEvents();
+        write(file, events);
+        long validLength = file.length();
+
+        try (FileOutputStream out = new FileOutputStream(file, true)) {
+            out.write(new byte[]{0, 0});
+        }
+
+        assertEquals(events.size(), journal(file).replay(event -> { }));
+        assertEquals(validLength, file.length());
+    }
+
+    @Test
+    void replayStopsAtChecksumMismatch() throws IOException {
+        File file = new File(folder, "game-data.journal");
+        List<JournalEvent> events = sampleEvents();
+        write(file, events.subList(0, 2));
+        long validLength = file.length();
+        write(file, events);
+
+        // 3番目のレコードのペイロードを1バイト書き換える
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.seek(validLength + 4);
+            int original = raf.read();
+            raf.seek(validLength + 4);
+            raf.write(original ^ 0xFF);
+        }
+
+        List<JournalEvent> replayed = new ArrayList<>();
+        assertEquals(2, journal(file).replay(replayed::add));
+        assertEquals(events.subList(0, 2), replayed);
+        assertEquals(validLength, file.length());
+    }
+
+    @Test
+    void replayAfterTruncationKeepsSameEvents() throws IOException {
+        File file = new File(folder, "game-data.journal");
+        List<JournalEvent> events = sampleEvents();
+        write(file, events);
+        truncate(file, file.length() - 1);
+
+        List<JournalEvent> first = new ArrayList<>();
+        journal(file).replay(first::add);
+        List<JournalEvent> second = new ArrayList<>();
+        journal(file).replay(second::add);
+
+        assertEquals(first, second);
+    }
+
+    private static GameJournal journal(File file) {
+        return new GameJournal(LOGGER, file, Runnable::run);
+    }
+
+    private static List<JournalEvent> sampleEvents() {
+        return List.of(
+                JournalEvent.seedSet(12345L),
+                JournalEvent.teamCreated("赤チーム"),
+                JournalEvent.teamCreated("blue"),
+                JournalEvent.memberAdded("赤チーム", new UUID(1, 1)),
+                JournalEvent.memberAdded("赤チーム", new UUID(2, 2)),
+                JournalEvent.memberRemoved("赤チーム", new UUID(1, 1)),
+                JournalEvent.teamColorSet("赤チーム", "RED"),
+                JournalEvent.teamWorldSet("赤チーム", "ta_red", "ta_red_nether", "ta_red_the_end"),
+                JournalEvent.gameStateSet("RUNNING"),
+                JournalEvent.startTimeSet(1_700_000_000_000L),
+                JournalEvent.igtTicksSet(2400L),
+                JournalEvent.teamSplitsSet("赤チーム",
+                        List.of(new SplitData("nether", 1_000L, 20L), new SplitData("end,portal", 2_000L, 40L))),
+                JournalEvent.teamStateSet("赤チーム", "FINISHED"),
+                JournalEvent.completionRecorded("赤チーム", 600_000L, 600_000_000_000L, 12000, 11990L),
+                JournalEvent.teamDeleted("blue"));
+    }
+
+    private static void write(File file, List<JournalEvent> events) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+            for (JournalEvent event : events) {
+                GameJournal.writeRecord(out, event);
+            }
+        }
+    }
+
+    private static void truncate(File file, long length) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(length);
+        }
+    }
+}